@@ -0,0 +1,16 @@
+package com.training.epam.ticketservice.at;
+
+import java.io.IOException;
+import java.io.Reader;
+
+interface ApplicationUnderTest extends AutoCloseable {
+
+    Reader output();
+
+    void send(String line) throws IOException;
+
+    boolean isRunning();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,47 @@
+package com.training.epam.ticketservice.at;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+class ExternalProcess implements ApplicationUnderTest {
+
+    private static final int PROCESS_EXIT_WAIT_TIME = 10000;
+
+    private final Process process;
+    private final Writer input;
+
+    ExternalProcess(String command) throws IOException {
+        process = Runtime.getRuntime().exec(command);
+        input = new OutputStreamWriter(process.getOutputStream());
+    }
+
+    @Override
+    public Reader output() {
+        return new InputStreamReader(process.getInputStream());
+    }
+
+    @Override
+    public void send(String line) throws IOException {
+        input.write(line + System.lineSeparator());
+        input.flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return process.isAlive();
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            process.waitFor(PROCESS_EXIT_WAIT_TIME, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
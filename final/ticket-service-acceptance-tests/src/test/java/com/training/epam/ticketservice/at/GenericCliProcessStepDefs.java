@@ -8,7 +8,6 @@ import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import java.io.IOException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 public class GenericCliProcessStepDefs {
@@ -27,17 +26,17 @@ public class GenericCliProcessStepDefs {
     }
 
     @Given("the prompt containing {string} is printed")
-    public void promptReturned(String expectedPrompt) throws InterruptedException, ExecutionException, TimeoutException {
+    public void promptReturned(String expectedPrompt) throws InterruptedException, TimeoutException {
         cliProcess.waitForOutput(expectedPrompt, OUTPUT_TIMEOUT);
     }
 
     @When("the user types the {string} command")
-    public void theUserTypes(String command) throws IOException {
-        cliProcess.writeOnInput(command + System.lineSeparator());
+    public void theUserTypes(String command) throws IOException, InterruptedException, TimeoutException {
+        cliProcess.writeOnInput(command, OUTPUT_TIMEOUT);
     }
 
     @Then("the next line of the output is {string}")
-    public void theNextLineOfOutputContains(String expectedOutput) throws InterruptedException, ExecutionException, TimeoutException {
+    public void theNextLineOfOutputContains(String expectedOutput) throws InterruptedException, TimeoutException {
         String actualLine = cliProcess.readNextLine(OUTPUT_TIMEOUT);
         assertThat(actualLine, equalTo(expectedOutput));
     }
@@ -0,0 +1,38 @@
+package com.training.epam.ticketservice.at;
+
+import com.epam.training.ticketservice.AdminInit;
+import com.epam.training.ticketservice.core.booking.BookingLedger;
+import com.epam.training.ticketservice.core.booking.SeatHolds;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import com.epam.training.ticketservice.core.session.SessionRegistry;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Drops what the shared application keeps in memory next to the database, so the next scenario starts from the same
+ * state as a freshly started application. Only the in-process mode needs this; the external process is started again
+ * for every scenario.
+ */
+final class InMemoryState {
+
+    private InMemoryState() {
+    }
+
+    /**
+     * Must be called after every table has been emptied.
+     */
+    static void reset(ApplicationContext context) {
+        context.getBean(SeatHolds.class).clear();
+        context.getBean(SeatMapRegistry.class).evictAll();
+        context.getBean(BookingLedger.class).evictAll();
+        context.getBean(OccupancyCounters.class).clear();
+        context.getBean(SessionRegistry.class).clear();
+        context.getBean(ScreeningSchedule.class).evictAll();
+        context.getBean(CatalogLookup.class).evictAll();
+        context.getBean(PriceCatalog.class).invalidateAll();
+        context.getBean(AdminInit.class).init();
+    }
+}
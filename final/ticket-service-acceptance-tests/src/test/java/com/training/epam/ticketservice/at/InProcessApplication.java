@@ -0,0 +1,231 @@
+package com.training.epam.ticketservice.at;
+
+import com.epam.training.ticketservice.Application;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.jline.reader.ParsedLine;
+import org.jline.reader.Parser;
+import org.jline.terminal.Terminal;
+import org.jline.terminal.TerminalBuilder;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.shell.Input;
+import org.springframework.shell.InputProvider;
+import org.springframework.shell.Shell;
+import org.springframework.shell.jline.PromptProvider;
+
+/**
+ * Runs the ticket service inside the test JVM. The application context and the shell loop are started once and
+ * shared by every scenario; each scenario gets an emptied database and its own output pipe.
+ */
+class InProcessApplication implements ApplicationUnderTest {
+
+    static final String MODE_PROPERTY = "ticket-service.acceptance.mode";
+    static final String MODE = "in-process";
+
+    private static final int PIPE_SIZE = 64 * 1024;
+    private static final long IDLE_WAIT_TIME = 30000;
+
+    private static Shared shared;
+
+    private final PipedInputStream output;
+
+    private InProcessApplication() throws IOException, InterruptedException {
+        Shared current = shared();
+        current.awaitIdle();
+        current.resetData();
+        output = new PipedInputStream(PIPE_SIZE);
+        current.terminalOutput.attach(new PipedOutputStream(output));
+        current.printPrompt();
+    }
+
+    static boolean isEnabled() {
+        return MODE.equals(System.getProperty(MODE_PROPERTY));
+    }
+
+    static InProcessApplication open() throws IOException, InterruptedException {
+        return new InProcessApplication();
+    }
+
+    @Override
+    public Reader output() {
+        return new InputStreamReader(output, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void send(String line) {
+        shared.commands.add(line);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return shared.shellThread.isAlive();
+    }
+
+    @Override
+    public void close() {
+        shared.terminalOutput.detach();
+    }
+
+    private static synchronized Shared shared() throws IOException {
+        if (shared == null) {
+            shared = new Shared();
+        }
+        return shared;
+    }
+
+    private static final class Shared implements InputProvider {
+
+        private final SwitchableOutputStream terminalOutput = new SwitchableOutputStream();
+        private final BlockingQueue<String> commands = new LinkedBlockingQueue<>();
+        private final Terminal terminal;
+        private final ConfigurableApplicationContext context;
+        private final Parser parser;
+        private final PromptProvider promptProvider;
+        private final Thread shellThread;
+        private boolean idle;
+
+        private Shared() throws IOException {
+            terminal = TerminalBuilder.builder()
+                    .system(false)
+                    .dumb(true)
+                    .streams(InputStream.nullInputStream(), terminalOutput)
+                    .encoding(StandardCharsets.UTF_8)
+                    .build();
+            context = new SpringApplicationBuilder(Application.class)
+                    .web(WebApplicationType.NONE)
+                    .bannerMode(Banner.Mode.OFF)
+                    .logStartupInfo(false)
+                    .properties(
+                            "spring.shell.interactive.enabled=false",
+                            "spring.main.allow-bean-definition-overriding=true",
+                            "spring.datasource.url=jdbc:h2:mem:ticketservice;DB_CLOSE_ON_EXIT=FALSE",
+                            "logging.level.root=WARN"
+                    )
+                    .initializers(context -> ((GenericApplicationContext) context)
+                            .registerBean("terminal", Terminal.class, () -> terminal))
+                    .run();
+            parser = context.getBean(Parser.class);
+            promptProvider = context.getBean(PromptProvider.class);
+            Shell shell = context.getBean(Shell.class);
+            shellThread = new Thread(() -> {
+                try {
+                    shell.run(this);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, "in-process-shell");
+            shellThread.setDaemon(true);
+            shellThread.start();
+        }
+
+        @Override
+        public Input readInput() {
+            String line;
+            try {
+                printPrompt();
+                markIdle(true);
+                line = commands.take();
+                markIdle(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ParsedLine parsedLine = parser.parse(line, line.length() + 1);
+            List<String> words = parsedLine.words().stream().filter(word -> !word.isEmpty()).toList();
+            return new Input() {
+                @Override
+                public String rawText() {
+                    return line;
+                }
+
+                @Override
+                public List<String> words() {
+                    return words;
+                }
+            };
+        }
+
+        private void printPrompt() {
+            terminal.writer().print(promptProvider.getPrompt().toString());
+            terminal.writer().flush();
+        }
+
+        private synchronized void markIdle(boolean isIdle) {
+            idle = isIdle;
+            notifyAll();
+        }
+
+        private synchronized void awaitIdle() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(IDLE_WAIT_TIME);
+            while (!idle || !commands.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new AssertionError("The commands of the previous scenario did not finish.");
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+
+        private void resetData() {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<String> tables = jdbcTemplate.queryForList("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'", String.class);
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            for (String table : tables) {
+                jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+            }
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            InMemoryState.reset(context);
+        }
+    }
+
+    private static final class SwitchableOutputStream extends OutputStream {
+
+        private volatile OutputStream delegate = OutputStream.nullOutputStream();
+
+        void attach(OutputStream outputStream) {
+            delegate = outputStream;
+        }
+
+        void detach() {
+            OutputStream previous = delegate;
+            delegate = OutputStream.nullOutputStream();
+            try {
+                previous.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+}
@@ -1,88 +1,139 @@
 package com.training.epam.ticketservice.at;
 
-import com.google.common.util.concurrent.SimpleTimeLimiter;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
+import java.io.Reader;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class ProcessUnderTest implements AutoCloseable {
 
     private static final int JVM_STARTUP_FAILURE_WAIT_TIME = 150;
-    private static final int DELAY_BEFORE_CLEANING_PROCESS_OUTPUT = 1000;
+    private static final int COMPACT_THRESHOLD = 64 * 1024;
 
-    private Process process;
-    private BufferedReader output;
-    private Writer input;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition outputChanged = lock.newCondition();
+    private final StringBuilder output = new StringBuilder();
+    private int position;
+    private boolean outputClosed;
+
+    private ApplicationUnderTest application;
+    private String prompt;
+    private boolean promptPending;
 
     public void run(String command) throws IOException, InterruptedException {
-        if (this.process != null && process.isAlive()) {
+        if (this.application != null && application.isRunning()) {
             return;
         }
-        process = Runtime.getRuntime().exec(command);
-        output = new BufferedReader(new InputStreamReader(process.getInputStream()));
-        input = new OutputStreamWriter(process.getOutputStream());
-        Thread.sleep(JVM_STARTUP_FAILURE_WAIT_TIME);
+        if (InProcessApplication.isEnabled()) {
+            application = InProcessApplication.open();
+        } else {
+            application = new ExternalProcess(command);
+            Thread.sleep(JVM_STARTUP_FAILURE_WAIT_TIME);
+        }
+        Reader reader = application.output();
+        Thread outputReader = new Thread(() -> pumpOutput(reader), "process-output-reader");
+        outputReader.setDaemon(true);
+        outputReader.start();
         verifyProcessIsRunning();
     }
 
-    public void waitForOutput(String expectedOutput, long timeout) throws InterruptedException, ExecutionException, TimeoutException {
+    public void waitForOutput(String expectedOutput, long timeout) throws InterruptedException, TimeoutException {
         verifyProcessIsRunning();
-        runWithTimeout(() -> readOutputUntil(expectedOutput), timeout);
+        skipPast(expectedOutput, deadlineOf(timeout));
+        prompt = expectedOutput;
+        promptPending = false;
     }
 
-    public String readNextLine(long timeout) throws InterruptedException, ExecutionException, TimeoutException {
+    public String readNextLine(long timeout) throws InterruptedException, TimeoutException {
         verifyProcessIsRunning();
-        return runWithTimeout(() -> output.readLine(), timeout);
+        lock.lock();
+        try {
+            int end = awaitIndexOf("\n", deadlineOf(timeout));
+            String line = output.substring(position, end);
+            position = end + 1;
+            return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void close() {
-        process.destroy();
+        application.close();
     }
 
-    public void writeOnInput(String command) throws IOException {
+    public void writeOnInput(String command, long timeout) throws IOException, InterruptedException, TimeoutException {
         verifyProcessIsRunning();
-        clearOutput(DELAY_BEFORE_CLEANING_PROCESS_OUTPUT);
-        input.write(command + System.lineSeparator());
-        input.flush();
+        if (promptPending) {
+            skipPast(prompt, deadlineOf(timeout));
+        }
+        application.send(command);
+        promptPending = prompt != null;
     }
 
-    private void clearOutput(long delayBeforeCleaning) throws IOException {
-        try {
-            Thread.sleep(delayBeforeCleaning);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+    private void pumpOutput(Reader reader) {
+        char[] chunk = new char[8192];
+        try (reader) {
+            int read;
+            while ((read = reader.read(chunk)) != -1) {
+                lock.lock();
+                try {
+                    output.append(chunk, 0, read);
+                    outputChanged.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            // the stream is closed when the process is destroyed
+        } finally {
+            lock.lock();
+            try {
+                outputClosed = true;
+                outputChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
         }
-        while (output.ready()) {
-            output.read();
+    }
+
+    private void skipPast(String expectedOutput, long deadline) throws InterruptedException, TimeoutException {
+        lock.lock();
+        try {
+            position = awaitIndexOf(expectedOutput, deadline) + expectedOutput.length();
+            if (position > COMPACT_THRESHOLD) {
+                output.delete(0, position);
+                position = 0;
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    private Void readOutputUntil(String expectedOutput) throws IOException {
-        String actualString = "";
-        do {
-            actualString += (char) output.read();
-            if (actualString.length() > expectedOutput.length()) {
-                actualString = actualString.substring(1);
+    private int awaitIndexOf(String expectedOutput, long deadline) throws InterruptedException, TimeoutException {
+        int index;
+        while ((index = output.indexOf(expectedOutput, position)) < 0) {
+            if (outputClosed) {
+                throw new AssertionError("The service is not running.");
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("Timed out waiting for '" + expectedOutput + "', the output so far is '"
+                        + output.substring(position) + "'");
             }
-        } while (!actualString.equals(expectedOutput));
-        return null; // Void for the sake of generics
+            outputChanged.awaitNanos(remaining);
+        }
+        return index;
     }
 
-    private <T> T runWithTimeout(Callable<T> callable, long timeout) throws InterruptedException, ExecutionException, TimeoutException {
-        SimpleTimeLimiter timeLimiter = SimpleTimeLimiter.create(Executors.newSingleThreadExecutor());
-        return timeLimiter.callWithTimeout(callable, timeout, TimeUnit.MILLISECONDS);
+    private static long deadlineOf(long timeout) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
     }
 
     private void verifyProcessIsRunning() {
-        if (this.process == null || !process.isAlive()) {
+        if (this.application == null || !application.isRunning()) {
             throw new AssertionError("The service is not running.");
         }
     }
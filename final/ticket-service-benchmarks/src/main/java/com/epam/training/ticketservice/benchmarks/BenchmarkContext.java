@@ -0,0 +1,41 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.Application;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return builder(WebApplicationType.NONE).run();
+    }
+
+    static ConfigurableApplicationContext startWithWebServer() {
+        return builder(WebApplicationType.SERVLET)
+                .properties("server.port=0")
+                .run();
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static SpringApplicationBuilder builder(WebApplicationType webApplicationType) {
+        return new SpringApplicationBuilder(Application.class)
+                .web(webApplicationType)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.shell.interactive.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID(),
+                        "logging.level.root=WARN"
+                );
+    }
+}
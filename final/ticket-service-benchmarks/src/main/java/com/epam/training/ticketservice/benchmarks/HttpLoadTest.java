@@ -0,0 +1,224 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a fixed number of HTTP requests in flight against the API and reports throughput and latency.
+ *
+ * <pre>
+ * java -cp ticket-service-benchmarks/target/benchmarks.jar \
+ *     com.epam.training.ticketservice.benchmarks.HttpLoadTest [--url http://host:port] \
+ *     [--connections 1000,10000] [--seconds 20] [--path /api/screenings?page=1&amp;size=20]
+ * </pre>
+ *
+ * <p>Without {@code --url} the application is started in-process on a random port with seeded data.
+ * Every in-flight request holds its own connection, so 10k connections need an open file limit
+ * well above 20k when client and server share the process.
+ */
+public final class HttpLoadTest {
+
+    private static final int LATENCY_BUCKETS = 64;
+    private static final int MAX_FAILURES = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private final HttpClient client;
+    private final URI uri;
+
+    private HttpLoadTest(URI uri) {
+        this.uri = uri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = option(args, "--url", null);
+        String path = option(args, "--path", "/api/screenings?page=1&size=20");
+        int seconds = Integer.parseInt(option(args, "--seconds", "20"));
+        String[] connections = option(args, "--connections", "1000,10000").split(",");
+
+        ConfigurableApplicationContext context = null;
+        if (url == null) {
+            context = BenchmarkContext.startWithWebServer();
+            seed(context);
+            url = "http://localhost:" + BenchmarkContext.port(context);
+        }
+
+        try {
+            HttpLoadTest loadTest = new HttpLoadTest(URI.create(url + path));
+            loadTest.run(Integer.parseInt(connections[0]), Math.min(seconds, 5));
+            System.out.printf("%12s %12s %10s %12s %10s %10s%n",
+                    "connections", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+            for (String count : connections) {
+                System.out.println(loadTest.run(Integer.parseInt(count.trim()), seconds));
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private Result run(int connections, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        LongAdder requests = new LongAdder();
+        LongAdder errors = new LongAdder();
+        AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS);
+        CountDownLatch done = new CountDownLatch(connections);
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Runtime.getRuntime().availableProcessors());
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < connections; i++) {
+                scheduler.execute(new Connection(request, deadline, requests, errors, latencies, done, scheduler));
+            }
+            done.await();
+        } finally {
+            scheduler.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        return new Result(connections, requests.sum(), errors.sum(), requests.sum() / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        return Math.min(LATENCY_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+    }
+
+    private static double percentile(AtomicLongArray latencies, double percentile) {
+        long total = 0;
+        for (int i = 0; i < latencies.length(); i++) {
+            total += latencies.get(i);
+        }
+        long seen = 0;
+        for (int i = 0; i < latencies.length(); i++) {
+            seen += latencies.get(i);
+            if (total > 0 && seen >= total * percentile) {
+                return (1L << (i + 1)) / 1000.0;
+            }
+        }
+        return 0;
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        List<Movie> movies = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            movies.add(new Movie("Movie " + i, "drama", 90));
+            rooms.add(new Room("Room " + i, 20, 10));
+        }
+        context.getBean(MovieRepo.class).saveAll(movies);
+        context.getBean(RoomRepo.class).saveAll(rooms);
+        List<Screening> screenings = new ArrayList<>();
+        LocalDateTime firstScreening = LocalDateTime.of(2030, 1, 1, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            screenings.add(new Screening(movies.get(i % 10), rooms.get(i % 10), firstScreening.plusHours(2L * (i / 10))));
+        }
+        context.getBean(ScreeningRepo.class).saveAll(screenings);
+    }
+
+    /**
+     * One request in flight at a time. The next request is submitted to the scheduler instead of being sent from the
+     * completion callback, so a connection that keeps failing does not turn into a recursive retry storm: failures
+     * back off exponentially, and the connection gives up after {@value #MAX_FAILURES} in a row.
+     */
+    private final class Connection implements Runnable {
+
+        private final HttpRequest request;
+        private final long deadline;
+        private final LongAdder requests;
+        private final LongAdder errors;
+        private final AtomicLongArray latencies;
+        private final CountDownLatch done;
+        private final ScheduledExecutorService scheduler;
+        private int failures;
+
+        private Connection(HttpRequest request, long deadline, LongAdder requests, LongAdder errors,
+                           AtomicLongArray latencies, CountDownLatch done, ScheduledExecutorService scheduler) {
+            this.request = request;
+            this.deadline = deadline;
+            this.requests = requests;
+            this.errors = errors;
+            this.latencies = latencies;
+            this.done = done;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public void run() {
+            long sent = System.nanoTime();
+            if (sent >= deadline) {
+                done.countDown();
+                return;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (failure == null && response.statusCode() == 200) {
+                            requests.increment();
+                            latencies.incrementAndGet(bucketOf(System.nanoTime() - sent));
+                            failures = 0;
+                            submit(0);
+                        } else if (++failures < MAX_FAILURES) {
+                            errors.increment();
+                            submit(Math.min(MAX_BACKOFF_MILLIS, 1L << failures));
+                        } else {
+                            errors.increment();
+                            done.countDown();
+                        }
+                    });
+        }
+
+        private void submit(long delayMillis) {
+            try {
+                scheduler.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                done.countDown();
+            }
+        }
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(int connections, long requests, long errors, double throughput, double p50, double p99) {
+
+        @Override
+        public String toString() {
+            return String.format("%12d %12d %10d %12.0f %10.2f %10.2f",
+                    connections, requests, errors, throughput, p50, p99);
+        }
+    }
+}
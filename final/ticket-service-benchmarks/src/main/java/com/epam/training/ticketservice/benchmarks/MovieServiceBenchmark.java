@@ -0,0 +1,83 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.service.MovieService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The movie CRUD paths against H2 holding {@code movies} movies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieServiceBenchmark {
+
+    private static final String NEW_MOVIE = "New movie";
+
+    @Param({"10", "1000", "10000"})
+    private int movies;
+
+    private ConfigurableApplicationContext context;
+    private MovieService movieService;
+    private String existingMovie;
+    private int length;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        movieService = context.getBean(MovieService.class);
+        List<Movie> data = new ArrayList<>(movies);
+        for (int i = 0; i < movies; i++) {
+            data.add(new Movie("Movie " + i, "drama", 90));
+        }
+        context.getBean(MovieRepo.class).saveAll(data);
+        existingMovie = "Movie " + movies / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createAndDeleteMovie() throws AlreadyExistsException, NotFoundException, RoomBusyException {
+        movieService.createMovie(NEW_MOVIE, "animation", 125);
+        movieService.deleteMovie(NEW_MOVIE);
+    }
+
+    @Benchmark
+    public void updateMovie() throws NotFoundException {
+        length = length % 120 + 1;
+        movieService.updateMovie(existingMovie, "drama", length);
+    }
+
+    @Benchmark
+    public List<MovieDto> movieList() {
+        return movieService.movieList();
+    }
+}
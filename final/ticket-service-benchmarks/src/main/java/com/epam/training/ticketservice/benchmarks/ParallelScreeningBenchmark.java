@@ -0,0 +1,88 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.service.ScreeningService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Several threads creating and deleting screenings at once, either each in a room of its own or all in the same
+ * room. Separate rooms take separate locks and should scale with the cores; the shared room is serialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ParallelScreeningBenchmark {
+
+    private static final String MOVIE = "Spirited Away";
+    private static final LocalDateTime FIRST_SCREENING = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"separate", "shared"})
+    private String rooms;
+
+    private ConfigurableApplicationContext context;
+    private ScreeningService screeningService;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        screeningService = context.getBean(ScreeningService.class);
+        context.getBean(MovieRepo.class).save(new Movie(MOVIE, "animation", 90));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Slot {
+
+        private String room;
+        private LocalDateTime screeningTime;
+
+        @Setup(Level.Trial)
+        public void setUp(ParallelScreeningBenchmark benchmark) {
+            int thread = benchmark.threads.getAndIncrement();
+            room = "separate".equals(benchmark.rooms) ? "Room " + thread : "Pedersoli";
+            screeningTime = FIRST_SCREENING.plusHours(2L * thread);
+            synchronized (benchmark) {
+                RoomRepo roomRepo = benchmark.context.getBean(RoomRepo.class);
+                if (roomRepo.findByName(room).isEmpty()) {
+                    roomRepo.save(new Room(room, 20, 10));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void createAndDeleteScreening(Slot slot) throws Exception {
+        screeningService.createScreening(MOVIE, slot.room, slot.screeningTime);
+        screeningService.deleteScreening(MOVIE, slot.room, slot.screeningTime);
+    }
+}
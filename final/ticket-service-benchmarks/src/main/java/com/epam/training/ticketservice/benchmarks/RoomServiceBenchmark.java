@@ -0,0 +1,83 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.service.RoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The room CRUD paths against H2 holding {@code rooms} rooms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomServiceBenchmark {
+
+    private static final String NEW_ROOM = "New room";
+
+    @Param({"10", "1000", "10000"})
+    private int rooms;
+
+    private ConfigurableApplicationContext context;
+    private RoomService roomService;
+    private String existingRoom;
+    private int cols;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        roomService = context.getBean(RoomService.class);
+        List<Room> data = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            data.add(new Room("Room " + i, 20, 10));
+        }
+        context.getBean(RoomRepo.class).saveAll(data);
+        existingRoom = "Room " + rooms / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createAndDeleteRoom() throws AlreadyExistsException, NotFoundException, RoomBusyException {
+        roomService.createRoom(NEW_ROOM, 20, 10);
+        roomService.deleteRoom(NEW_ROOM);
+    }
+
+    @Benchmark
+    public void updateRoom() throws NotFoundException {
+        cols = cols % 20 + 1;
+        roomService.updateRoom(existingRoom, 20, cols);
+    }
+
+    @Benchmark
+    public List<RoomDto> roomList() {
+        return roomService.roomList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting {@code dtos} screening lines, without any database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreeningDtoBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int dtos;
+
+    private ScreeningDto[] screeningDtos;
+
+    @Setup
+    public void setUp() {
+        Movie movie = new Movie("Sátántangó", "drama", 450);
+        Room room = new Room("Pedersoli", 20, 10);
+        LocalDateTime firstScreening = LocalDateTime.of(2030, 1, 1, 0, 0);
+        screeningDtos = new ScreeningDto[dtos];
+        for (int i = 0; i < dtos; i++) {
+            screeningDtos[i] = new ScreeningDto(new Screening(movie, room, firstScreening.plusHours(8L * i)));
+        }
+    }
+
+    @Benchmark
+    public void screeningDtoToString(Blackhole blackhole) {
+        for (ScreeningDto screeningDto : screeningDtos) {
+            blackhole.consume(screeningDto.toString());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.service.ScreeningService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Listing {@code screenings} screenings spread over ten movies and ten rooms,
+ * as a whole list, a single page and a stream, with and without rendering them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreeningListBenchmark {
+
+    private static final int MOVIES = 10;
+    private static final int ROOMS = 10;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100", "1000", "10000"})
+    private int screenings;
+
+    private ConfigurableApplicationContext context;
+    private ScreeningService screeningService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        screeningService = context.getBean(ScreeningService.class);
+        List<Movie> movies = new ArrayList<>(MOVIES);
+        List<Room> rooms = new ArrayList<>(ROOMS);
+        for (int i = 0; i < MOVIES; i++) {
+            movies.add(new Movie("Movie " + i, "drama", 90 + i));
+        }
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(new Room("Room " + i, 10 + i, 10));
+        }
+        context.getBean(MovieRepo.class).saveAll(movies);
+        context.getBean(RoomRepo.class).saveAll(rooms);
+
+        LocalDateTime firstScreening = LocalDateTime.of(2030, 1, 1, 0, 0);
+        List<Screening> data = new ArrayList<>(screenings);
+        for (int i = 0; i < screenings; i++) {
+            data.add(new Screening(movies.get(i % MOVIES), rooms.get(i % ROOMS),
+                    firstScreening.plusHours(2L * (i / ROOMS))));
+        }
+        context.getBean(ScreeningRepo.class).saveAll(data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ScreeningDto> screeningList() {
+        return screeningService.screeningList();
+    }
+
+    @Benchmark
+    public String renderScreeningList() {
+        return screeningService.screeningList().stream()
+                .map(ScreeningDto::toString)
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Benchmark
+    public List<ScreeningDto> firstScreeningPage() {
+        return screeningService.screeningPage(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public String renderStreamedScreenings() {
+        StringJoiner joiner = new StringJoiner("\n");
+        screeningService.forEachScreening(screeningDto -> joiner.add(screeningDto.toString()));
+        return joiner.toString();
+    }
+}
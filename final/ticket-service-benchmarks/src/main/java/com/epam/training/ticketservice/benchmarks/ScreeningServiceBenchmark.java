@@ -0,0 +1,104 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.service.ScreeningService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a screening in a room that already holds {@code occupancy} screenings.
+ * Every created screening is deleted again outside the measurement, so the occupancy stays fixed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreeningServiceBenchmark {
+
+    private static final String MOVIE = "Spirited Away";
+    private static final String ROOM = "Pedersoli";
+    private static final LocalDateTime FIRST_SCREENING = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"10", "100", "1000", "10000"})
+    private int occupancy;
+
+    private ConfigurableApplicationContext context;
+    private ScreeningService screeningService;
+    private LocalDateTime freeSlot;
+    private LocalDateTime takenSlot;
+    private boolean isCreated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        screeningService = context.getBean(ScreeningService.class);
+        Movie movie = context.getBean(MovieRepo.class).save(new Movie(MOVIE, "animation", 90));
+        Room room = context.getBean(RoomRepo.class).save(new Room(ROOM, 20, 10));
+        List<Screening> screenings = new ArrayList<>(occupancy);
+        for (int i = 0; i < occupancy; i++) {
+            screenings.add(new Screening(movie, room, FIRST_SCREENING.plusHours(2L * i)));
+        }
+        context.getBean(ScreeningRepo.class).saveAll(screenings);
+        freeSlot = FIRST_SCREENING.plusHours(2L * occupancy);
+        takenSlot = FIRST_SCREENING.plusHours(2L * (occupancy / 2)).plusMinutes(30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteCreatedScreening() throws NotFoundException, RoomBusyException {
+        if (isCreated) {
+            screeningService.deleteScreening(MOVIE, ROOM, freeSlot);
+            isCreated = false;
+        }
+    }
+
+    @Benchmark
+    public void createScreening()
+            throws NotFoundException, ExtendingException, BreakStageException, RoomBusyException {
+        screeningService.createScreening(MOVIE, ROOM, freeSlot);
+        isCreated = true;
+    }
+
+    @Benchmark
+    public Exception rejectOverlappingScreening()
+            throws NotFoundException, BreakStageException, RoomBusyException {
+        try {
+            screeningService.createScreening(MOVIE, ROOM, takenSlot);
+        } catch (ExtendingException e) {
+            return e;
+        }
+        throw new IllegalStateException("The screening at " + takenSlot + " should overlap");
+    }
+}
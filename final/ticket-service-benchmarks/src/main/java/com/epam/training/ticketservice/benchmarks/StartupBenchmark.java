@@ -0,0 +1,112 @@
+package com.epam.training.ticketservice.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching the service until the {@code Ticket service>} prompt is printed.
+ *
+ * <pre>
+ * java -cp ticket-service-benchmarks/target/benchmarks.jar \
+ *     com.epam.training.ticketservice.benchmarks.StartupBenchmark [--runs 5] \
+ *     [--jar ticket-service/target/ticket-service-0.0.1-SNAPSHOT.jar] [--cds-dir ticket-service/target/cds]
+ * </pre>
+ *
+ * <p>Every configuration gets one untimed warm-up launch so that all of them start with a warm page cache.
+ * The AppCDS configuration is only measured when the archive has been built with {@code mvn package -Pcds}.
+ */
+public final class StartupBenchmark {
+
+    private static final byte[] PROMPT = "Ticket service>".getBytes(StandardCharsets.US_ASCII);
+    private static final long PROMPT_TIMEOUT_SECONDS = 120;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = Integer.parseInt(option(args, "--runs", "5"));
+        Path jar = Path.of(option(args, "--jar", "ticket-service/target/ticket-service-0.0.1-SNAPSHOT.jar"));
+        Path cdsDir = Path.of(option(args, "--cds-dir", "ticket-service/target/cds"));
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        List<Configuration> configurations = new ArrayList<>();
+        configurations.add(new Configuration("default",
+                List.of(java, "-Dspring.profiles.active=ci", "-jar", jar.toString())));
+        configurations.add(new Configuration("fast-start",
+                List.of(java, "-Dspring.profiles.active=ci,fast-start", "-jar", jar.toString())));
+        Path archive = cdsDir.resolve("ticket-service.jsa");
+        Path cdsJar = cdsDir.resolve("ticket-service-0.0.1-SNAPSHOT-cds.jar");
+        if (Files.exists(archive) && Files.exists(cdsJar)) {
+            configurations.add(new Configuration("fast-start + AppCDS",
+                    List.of(java, "-XX:SharedArchiveFile=" + archive, "-Dspring.profiles.active=ci,fast-start",
+                            "-jar", cdsJar.toString())));
+        }
+
+        System.out.printf("%-22s %10s %10s %10s%n", "configuration", "min ms", "median ms", "max ms");
+        for (Configuration configuration : configurations) {
+            timeToPrompt(configuration.command());
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = timeToPrompt(configuration.command());
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-22s %10d %10d %10d%n",
+                    configuration.name(), millis[0], millis[runs / 2], millis[runs - 1]);
+        }
+    }
+
+    private static long timeToPrompt(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try {
+            awaitPrompt(process.getInputStream());
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            OutputStream input = process.getOutputStream();
+            input.write(("exit" + System.lineSeparator()).getBytes(StandardCharsets.US_ASCII));
+            input.flush();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            if (!process.waitFor(PROMPT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The service did not exit: " + command);
+            }
+            return elapsed;
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void awaitPrompt(InputStream output) throws IOException {
+        int matched = 0;
+        int b;
+        while ((b = output.read()) != -1) {
+            if (b == PROMPT[matched]) {
+                matched++;
+                if (matched == PROMPT.length) {
+                    return;
+                }
+            } else {
+                matched = b == PROMPT[0] ? 1 : 0;
+            }
+        }
+        throw new IllegalStateException("The service exited before printing the prompt");
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Configuration(String name, List<String> command) {
+    }
+}
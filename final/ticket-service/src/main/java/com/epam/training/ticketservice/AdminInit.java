@@ -2,20 +2,29 @@ package com.epam.training.ticketservice;
 
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.repository.UserRepo;
+import com.epam.training.ticketservice.core.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
-
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RequiredArgsConstructor
-public class AdminInit {
+public class AdminInit implements ApplicationRunner {
 
     private final UserRepo userRepo;
 
-    @PostConstruct
+    @Override
+    public void run(ApplicationArguments args) {
+        init();
+    }
+
     public void init() {
-        User admin = new User("admin", "admin", User.Role.ADMIN);
-        userRepo.save(admin);
+        if (userRepo.findByUsername("admin").isEmpty()) {
+            userRepo.save(new User("admin", PasswordHasher.hash("admin"), User.Role.ADMIN));
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,18 @@
 package com.epam.training.ticketservice;
 
+import com.epam.training.ticketservice.ui.commands.QuitCommands;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class Application {
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+        // with the web API up, only an explicit exit stops the application, not the shell's input running out
+        if (!(context instanceof WebServerApplicationContext) || context.getBean(QuitCommands.class).isRequested()) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user index of the booking snapshots, so an account's history is shown without touching the database.
+ *
+ * <p>A user's history is read once, from the snapshot columns of their bookings, and kept up to date by
+ * {@link #record} afterwards. Histories are immutable lists replaced on every booking, which makes reading one a
+ * single map lookup. At most {@code ticket-service.booking-ledger.size} histories are kept, the least recently read
+ * ones are dropped and read again when needed.
+ *
+ * <p>Like {@link com.epam.training.ticketservice.core.catalog.NameCache}, a history is read from the database outside
+ * the lock and only kept if no booking was recorded or removed in the meantime, since the read may have missed it.
+ */
+@Component
+public class BookingLedger {
+
+    private final BookingRepo bookingRepo;
+    private final Map<String, List<BookingRecordDto>> histories;
+    private long changes;
+
+    public BookingLedger(BookingRepo bookingRepo, @Value("${ticket-service.booking-ledger.size:10000}") int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The ledger size must be positive");
+        }
+        this.bookingRepo = bookingRepo;
+        this.histories = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<BookingRecordDto>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public List<BookingRecordDto> historyOf(String username) {
+        long version;
+        synchronized (this) {
+            List<BookingRecordDto> history = histories.get(username);
+            if (history != null) {
+                return history;
+            }
+            version = changes;
+        }
+
+        List<BookingRecordDto> loaded = List.copyOf(bookingRepo.findHistory(username));
+        synchronized (this) {
+            if (version == changes) {
+                histories.putIfAbsent(username, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds a saved booking to the user's history if it is loaded already. A history loaded after the booking was
+     * saved contains it anyway, so the booking is only added once.
+     */
+    public synchronized void record(String username, BookingRecordDto booking) {
+        changes++;
+        histories.computeIfPresent(username, (key, history) -> {
+            if (history.stream().anyMatch(recorded -> recorded.id() == booking.id())) {
+                return history;
+            }
+            List<BookingRecordDto> updated = new ArrayList<>(history.size() + 1);
+            updated.addAll(history);
+            updated.add(booking);
+            return List.copyOf(updated);
+        });
+    }
+
+    public synchronized void remove(String username, long id) {
+        changes++;
+        histories.computeIfPresent(username, (key, history) ->
+                history.stream().filter(recorded -> recorded.id() != id).toList());
+    }
+
+    public synchronized void evictAll() {
+        changes++;
+        histories.clear();
+    }
+
+    public synchronized int size() {
+        return histories.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+public record Seat(int row, int col) {
+
+    public static Seat parse(String seat) {
+        String[] parts = seat.trim().split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid seat " + seat);
+        }
+        try {
+            return new Seat(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid seat " + seat);
+        }
+    }
+
+    public static List<Seat> parseList(String seats) {
+        Set<Seat> result = new LinkedHashSet<>();
+        for (String seat : seats.trim().split("\\s+")) {
+            result.add(parse(seat));
+        }
+        return new ArrayList<>(result);
+    }
+
+    public static String toInput(List<Seat> seats) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (Seat seat : seats) {
+            joiner.add(seat.row + "," + seat.col);
+        }
+        return joiner.toString();
+    }
+
+    public static String format(List<Seat> seats) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Seat seat : seats) {
+            joiner.add(seat.toString());
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "(" + row + "," + col + ")";
+    }
+}
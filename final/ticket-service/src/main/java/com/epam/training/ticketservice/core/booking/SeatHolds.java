@@ -0,0 +1,128 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Seats claimed in a screening's {@link SeatMap} for a while before they are booked.
+ *
+ * <p>A held seat is taken like a booked one until the hold is confirmed or expires. The deadlines live on one
+ * {@link TimingWheel}, advanced by a single thread every tick and again before every claim, so expired seats are free
+ * for the next booking even between two ticks. The seats themselves are claimed through the {@link SeatMapRegistry},
+ * which claims them again if it has to load the screening's seat map anew while the hold is active.
+ */
+@Component
+public class SeatHolds {
+
+    private final SeatMapRegistry seatMapRegistry;
+    private final Duration holdTime;
+    private final TimingWheel<Long> wheel;
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public SeatHolds(SeatMapRegistry seatMapRegistry,
+                     @Value("${ticket-service.holds.duration:5m}") Duration holdTime,
+                     @Value("${ticket-service.holds.tick:100ms}") Duration tick,
+                     @Value("${ticket-service.holds.wheel-size:512}") int wheelSize) {
+        this(seatMapRegistry, holdTime, tick, wheelSize, System::nanoTime);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-holds");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::expireDue, tick.toNanos(), tick.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public SeatHolds(SeatMapRegistry seatMapRegistry, Duration holdTime, Duration tick, int wheelSize,
+                     LongSupplier nanoTime) {
+        this.seatMapRegistry = seatMapRegistry;
+        this.holdTime = holdTime;
+        this.wheel = new TimingWheel<>(tick, wheelSize, nanoTime);
+    }
+
+    /**
+     * Claims the seats and holds them for the user until the hold time is up.
+     */
+    public Hold hold(String username, Screening screening, List<Seat> seats) throws SeatTakenException {
+        expireDue();
+        long id = ids.incrementAndGet();
+        Optional<Seat> takenSeat = seatMapRegistry.claimHeld(screening, id, seats);
+        if (takenSeat.isPresent()) {
+            throw new SeatTakenException("Seat " + takenSeat.get() + " is already taken");
+        }
+
+        Hold hold;
+        // the wheel cannot expire the hold before it is registered, advancing it locks the wheel too
+        synchronized (wheel) {
+            hold = new Hold(id, username, screening, List.copyOf(seats), wheel.schedule(id, holdTime));
+            holds.put(id, hold);
+        }
+        return hold;
+    }
+
+    /**
+     * Ends the user's hold before it expires and hands over its seats, which stay claimed for the caller.
+     */
+    public Optional<Hold> take(String username, long id) {
+        expireDue();
+        Hold hold = holds.get(id);
+        if (hold == null || !hold.username().equals(username) || !holds.remove(id, hold)) {
+            return Optional.empty();
+        }
+        wheel.cancel(hold.timeout());
+        seatMapRegistry.handOverHeld(hold.screening(), id);
+        return Optional.of(hold);
+    }
+
+    public Duration getHoldTime() {
+        return holdTime;
+    }
+
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * Frees the seats of every hold whose time is up.
+     */
+    public void expireDue() {
+        for (Long id : wheel.advance()) {
+            Hold hold = holds.remove(id);
+            if (hold != null) {
+                seatMapRegistry.releaseHeld(hold.screening(), id);
+            }
+        }
+    }
+
+    public void clear() {
+        holds.clear();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    public record Hold(long id, String username, Screening screening, List<Seat> seats,
+                       TimingWheel.Timeout<Long> timeout) {
+    }
+}
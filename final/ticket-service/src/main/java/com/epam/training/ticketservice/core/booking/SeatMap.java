@@ -0,0 +1,227 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SeatMap {
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    private final AtomicLongArray words;
+
+    public SeatMap(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + Long.SIZE - 1) / Long.SIZE;
+        this.words = new AtomicLongArray(rows * wordsPerRow);
+    }
+
+    public boolean hasSize(int rows, int cols) {
+        return this.rows == rows && this.cols == cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public boolean exists(Seat seat) {
+        return seat.row() >= 1 && seat.row() <= rows && seat.col() >= 1 && seat.col() <= cols;
+    }
+
+    public boolean isTaken(Seat seat) {
+        return (words.get(wordOf(seat)) & maskOf(seat)) != 0;
+    }
+
+    public Optional<Seat> tryClaim(List<Seat> seats) {
+        int[] wordIndexes = new int[seats.size()];
+        long[] masks = new long[seats.size()];
+        int wordCount = group(seats, wordIndexes, masks);
+
+        for (int i = 0; i < wordCount; i++) {
+            if (!claimWord(wordIndexes[i], masks[i])) {
+                for (int j = 0; j < i; j++) {
+                    releaseWord(wordIndexes[j], masks[j]);
+                }
+                return Optional.of(firstTaken(seats, wordIndexes[i], masks[i]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void release(List<Seat> seats) {
+        for (Seat seat : seats) {
+            if (exists(seat)) {
+                releaseWord(wordOf(seat), maskOf(seat));
+            }
+        }
+    }
+
+    public void markTaken(List<Seat> seats) {
+        for (Seat seat : seats) {
+            if (exists(seat)) {
+                int word = wordOf(seat);
+                long mask = maskOf(seat);
+                words.getAndUpdate(word, current -> current | mask);
+            }
+        }
+    }
+
+    /**
+     * Finds the block of {@code count} adjacent free seats in one row whose middle is closest to the middle of the
+     * room, without claiming it. Ties go to the front row and then to the left.
+     *
+     * <p>Each row is scanned as a bitmask of its free seats: ANDing the mask with itself shifted by the length of the
+     * runs found so far doubles that length, so the bits left after a few steps are exactly the first seats of the
+     * free runs that are long enough.
+     */
+    public Optional<List<Seat>> findBestBlock(int count) {
+        if (count < 1 || count > cols) {
+            return Optional.empty();
+        }
+        long[] free = new long[wordsPerRow];
+        long[] starts = new long[wordsPerRow];
+        long bestScore = Long.MAX_VALUE;
+        int bestRow = 0;
+        int bestStart = 0;
+        for (int row = 1; row <= rows; row++) {
+            // distances are doubled to stay whole numbers when the middle falls between two seats
+            long rowDistance = 2L * row - rows - 1;
+            if (rowDistance * rowDistance >= bestScore) {
+                continue;
+            }
+            freeSeatsOf(row, free);
+            runStarts(free, count, starts);
+            for (int word = 0; word < wordsPerRow; word++) {
+                long bits = starts[word];
+                while (bits != 0) {
+                    int start = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    long colDistance = 2L * start + count - cols;
+                    long score = rowDistance * rowDistance + colDistance * colDistance;
+                    if (score < bestScore) {
+                        bestScore = score;
+                        bestRow = row;
+                        bestStart = start;
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+        if (bestScore == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        List<Seat> block = new ArrayList<>(count);
+        for (int col = bestStart + 1; col <= bestStart + count; col++) {
+            block.add(new Seat(bestRow, col));
+        }
+        return Optional.of(block);
+    }
+
+    public int takenSeats() {
+        int taken = 0;
+        for (int i = 0; i < words.length(); i++) {
+            taken += Long.bitCount(words.get(i));
+        }
+        return taken;
+    }
+
+    private boolean claimWord(int word, long mask) {
+        long current = words.get(word);
+        while ((current & mask) == 0) {
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+            current = words.get(word);
+        }
+        return false;
+    }
+
+    private void releaseWord(int word, long mask) {
+        words.getAndUpdate(word, current -> current & ~mask);
+    }
+
+    private Seat firstTaken(List<Seat> seats, int conflictingWord, long conflictingMask) {
+        for (Seat seat : seats) {
+            if (isTaken(seat)) {
+                return seat;
+            }
+        }
+        for (Seat seat : seats) {
+            if (wordOf(seat) == conflictingWord && (maskOf(seat) & conflictingMask) != 0) {
+                return seat;
+            }
+        }
+        return seats.get(0);
+    }
+
+    private int group(List<Seat> seats, int[] wordIndexes, long[] masks) {
+        int wordCount = 0;
+        for (Seat seat : seats) {
+            int word = wordOf(seat);
+            int i = 0;
+            while (i < wordCount && wordIndexes[i] < word) {
+                i++;
+            }
+            if (i < wordCount && wordIndexes[i] == word) {
+                masks[i] |= maskOf(seat);
+            } else {
+                System.arraycopy(wordIndexes, i, wordIndexes, i + 1, wordCount - i);
+                System.arraycopy(masks, i, masks, i + 1, wordCount - i);
+                wordIndexes[i] = word;
+                masks[i] = maskOf(seat);
+                wordCount++;
+            }
+        }
+        return wordCount;
+    }
+
+    private void freeSeatsOf(int row, long[] free) {
+        int first = (row - 1) * wordsPerRow;
+        for (int word = 0; word < wordsPerRow; word++) {
+            free[word] = ~words.get(first + word);
+        }
+        if (cols % Long.SIZE != 0) {
+            free[wordsPerRow - 1] &= (1L << (cols % Long.SIZE)) - 1;
+        }
+    }
+
+    private static void runStarts(long[] free, int count, long[] starts) {
+        System.arraycopy(free, 0, starts, 0, free.length);
+        int length = 1;
+        while (length < count) {
+            int shift = Math.min(length, count - length);
+            andShiftedRight(starts, shift);
+            length += shift;
+        }
+    }
+
+    /**
+     * Sets bit {@code i} of {@code bits} only if bits {@code i} and {@code i + shift} were both set.
+     */
+    private static void andShiftedRight(long[] bits, int shift) {
+        int wordShift = shift / Long.SIZE;
+        int bitShift = shift % Long.SIZE;
+        for (int word = 0; word < bits.length; word++) {
+            int source = word + wordShift;
+            long shifted = source < bits.length ? bits[source] >>> bitShift : 0;
+            if (bitShift != 0 && source + 1 < bits.length) {
+                shifted |= bits[source + 1] << (Long.SIZE - bitShift);
+            }
+            bits[word] &= shifted;
+        }
+    }
+
+    private int wordOf(Seat seat) {
+        return (seat.row() - 1) * wordsPerRow + (seat.col() - 1) / Long.SIZE;
+    }
+
+    private static long maskOf(Seat seat) {
+        return 1L << ((seat.col() - 1) % Long.SIZE);
+    }
+}
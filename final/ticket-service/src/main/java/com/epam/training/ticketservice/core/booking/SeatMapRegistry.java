@@ -0,0 +1,116 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The seat map of every screening, loaded from its bookings on first use and again when its room is resized.
+ *
+ * <p>The seats of the unexpired holds are not in the database, so they are kept here too and claimed again whenever
+ * a screening's seat map is loaded. Holding seats, ending a hold and loading a map all run inside the map's
+ * {@code compute} for that screening, so a map can never be loaded without the seats of a hold that is still active.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatMapRegistry {
+
+    private final BookingRepo bookingRepo;
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+    // by screening and hold, only read and written inside the compute of the screening's seat map
+    private final Map<Long, Map<Long, List<Seat>>> heldSeats = new ConcurrentHashMap<>();
+
+    public SeatMap seatMapOf(Screening screening) {
+        Room room = screening.getRoom();
+        SeatMap seatMap = seatMaps.get(screening.getId());
+        if (seatMap != null && seatMap.hasSize(room.getRows(), room.getCols())) {
+            return seatMap;
+        }
+        return seatMaps.compute(screening.getId(), (id, current) -> currentOrLoad(screening, current));
+    }
+
+    /**
+     * Claims the seats for a hold, returning the first seat that is already taken if they cannot all be claimed.
+     */
+    public Optional<Seat> claimHeld(Screening screening, long holdId, List<Seat> seats) {
+        AtomicReference<Optional<Seat>> takenSeat = new AtomicReference<>();
+        seatMaps.compute(screening.getId(), (id, current) -> {
+            SeatMap seatMap = currentOrLoad(screening, current);
+            takenSeat.set(seatMap.tryClaim(seats));
+            if (takenSeat.get().isEmpty()) {
+                heldSeats.computeIfAbsent(id, key -> new HashMap<>()).put(holdId, List.copyOf(seats));
+            }
+            return seatMap;
+        });
+        return takenSeat.get();
+    }
+
+    /**
+     * Ends a hold that expired and frees its seats.
+     */
+    public void releaseHeld(Screening screening, long holdId) {
+        seatMaps.compute(screening.getId(), (id, current) -> {
+            List<Seat> seats = removeHeld(id, holdId);
+            if (seats != null && current != null) {
+                current.release(seats);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Ends a hold that is being booked, leaving its seats claimed in the screening's seat map.
+     */
+    public void handOverHeld(Screening screening, long holdId) {
+        seatMaps.compute(screening.getId(), (id, current) -> {
+            SeatMap seatMap = currentOrLoad(screening, current);
+            removeHeld(id, holdId);
+            return seatMap;
+        });
+    }
+
+    public void evict(Screening screening) {
+        seatMaps.remove(screening.getId());
+    }
+
+    public void evictAll() {
+        seatMaps.clear();
+        heldSeats.clear();
+    }
+
+    private SeatMap currentOrLoad(Screening screening, SeatMap current) {
+        Room room = screening.getRoom();
+        return current != null && current.hasSize(room.getRows(), room.getCols()) ? current : load(screening);
+    }
+
+    private List<Seat> removeHeld(long screeningId, long holdId) {
+        Map<Long, List<Seat>> held = heldSeats.get(screeningId);
+        if (held == null) {
+            return null;
+        }
+        List<Seat> seats = held.remove(holdId);
+        if (held.isEmpty()) {
+            heldSeats.remove(screeningId);
+        }
+        return seats;
+    }
+
+    private SeatMap load(Screening screening) {
+        SeatMap seatMap = new SeatMap(screening.getRoom().getRows(), screening.getRoom().getCols());
+        for (Booking booking : bookingRepo.findBookingsByScreening(screening)) {
+            seatMap.markTaken(Seat.parseList(booking.getSeats()));
+        }
+        heldSeats.getOrDefault(screening.getId(), Map.of()).values().forEach(seatMap::markTaken);
+        return seatMap;
+    }
+}
@@ -0,0 +1,148 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timing wheel: a ring of buckets, one per tick, each holding the timeouts that are due on that tick in any
+ * round of the wheel.
+ *
+ * <p>Scheduling and cancelling link or unlink one node of a bucket, so both are O(1) however many timeouts are
+ * pending. {@link #advance()} only visits the buckets of the ticks that passed since the previous call and expires a
+ * timeout at the first tick at or after its deadline, never before it.
+ */
+public class TimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Bucket<T>> buckets;
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private long nextTick;
+    private int size;
+
+    public TimingWheel(Duration tick, int wheelSize, LongSupplier nanoTime) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("The tick of the wheel must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("The size of the wheel must be a power of two");
+        }
+        this.tickNanos = tick.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new Bucket<>());
+        }
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+    }
+
+    public synchronized Timeout<T> schedule(T value, Duration delay) {
+        long deadlineNanos = nanoTime.getAsLong() - startNanos + delay.toNanos();
+        long deadlineTick = Math.max(-Math.floorDiv(-deadlineNanos, tickNanos), nextTick);
+        Timeout<T> timeout = new Timeout<>(value, deadlineTick);
+        buckets.get((int) (deadlineTick & mask)).add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels the timeout and returns whether it was still pending.
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes the timeouts whose deadline has passed and returns their values.
+     */
+    public synchronized List<T> advance() {
+        long now = Math.floorDiv(nanoTime.getAsLong() - startNanos, tickNanos);
+        List<T> expired = new ArrayList<>();
+        // after a long pause one turn of the wheel visits every bucket, so there is no need to replay each tick
+        long last = Math.min(now, nextTick + mask);
+        for (long tick = nextTick; tick <= last; tick++) {
+            size -= buckets.get((int) (tick & mask)).expire(now, expired);
+        }
+        nextTick = Math.max(nextTick, now + 1);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T value() {
+            return value;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private int expire(long now, List<T> expired) {
+            int count = 0;
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadlineTick <= now) {
+                    remove(timeout);
+                    expired.add(timeout.value);
+                    count++;
+                }
+                timeout = next;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.training.ticketservice.core.catalog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheMetrics implements MeterBinder {
+
+    public static final String GETS = "ticketservice.catalog.cache.gets";
+    public static final String SIZE = "ticketservice.catalog.cache.size";
+
+    private final CatalogLookup catalogLookup;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "movie", CatalogLookup::movieCacheStats);
+        bind(registry, "room", CatalogLookup::roomCacheStats);
+    }
+
+    private void bind(MeterRegistry registry, String cache, Function<CatalogLookup, NameCache.Stats> stats) {
+        FunctionCounter.builder(GETS, catalogLookup, lookup -> stats.apply(lookup).hits())
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder(GETS, catalogLookup, lookup -> stats.apply(lookup).misses())
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        Gauge.builder(SIZE, catalogLookup, lookup -> stats.apply(lookup).size())
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.training.ticketservice.core.catalog;
+
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class CatalogLookup {
+
+    private final MovieRepo movieRepo;
+    private final RoomRepo roomRepo;
+    private final ScreeningRepo screeningRepo;
+    private final NameCache<Movie> movieCache;
+    private final NameCache<Room> roomCache;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    public CatalogLookup(MovieRepo movieRepo, RoomRepo roomRepo, ScreeningRepo screeningRepo,
+                         @Value("${ticket-service.catalog-cache.size:1000}") int cacheSize,
+                         @Value("${ticket-service.catalog-cache.ttl:10m}") Duration cacheTtl) {
+        this.movieRepo = movieRepo;
+        this.roomRepo = roomRepo;
+        this.screeningRepo = screeningRepo;
+        this.movieCache = new NameCache<>(cacheSize, cacheTtl);
+        this.roomCache = new NameCache<>(cacheSize, cacheTtl);
+    }
+
+    public Optional<Movie> lookupMovie(String name) {
+        return movieCache.get(name, movieRepo::findByName);
+    }
+
+    public Optional<Room> lookupRoom(String name) {
+        return roomCache.get(name, roomRepo::findByName);
+    }
+
+    public Movie findMovie(String name) throws NotFoundException {
+        return lookupMovie(name)
+                .orElseThrow(() -> new NotFoundException("The movie does not found."));
+    }
+
+    public Room findRoom(String name) throws NotFoundException {
+        return lookupRoom(name)
+                .orElseThrow(() -> new NotFoundException("The room does not found."));
+    }
+
+    public Screening findScreening(String movie, String room, LocalDateTime screeningTime)
+            throws NotFoundException {
+        Optional<Movie> movieOptional = lookupMovie(movie);
+        Optional<Room> roomOptional = lookupRoom(room);
+        checkMovieAndRoomExistence(movieOptional, roomOptional);
+        return screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
+                movieOptional.get(),
+                roomOptional.get(),
+                screeningTime
+        ).orElseThrow(() -> new NotFoundException("The given screening does not found."));
+    }
+
+    public void prime(Collection<Movie> movies, Collection<Room> rooms) {
+        movies.forEach(movie -> movieCache.put(movie.getName(), movie));
+        rooms.forEach(room -> roomCache.put(room.getName(), room));
+    }
+
+    public void evictMovie(String name) {
+        movieCache.invalidate(name);
+        changeListeners.forEach(Runnable::run);
+    }
+
+    public void evictRoom(String name) {
+        roomCache.invalidate(name);
+        changeListeners.forEach(Runnable::run);
+    }
+
+    public void evictAll() {
+        movieCache.invalidateAll();
+        roomCache.invalidateAll();
+        changeListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a callback that runs after every eviction, that is after every change of a movie or a room.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public NameCache.Stats movieCacheStats() {
+        return movieCache.stats();
+    }
+
+    public NameCache.Stats roomCacheStats() {
+        return roomCache.stats();
+    }
+
+    public static void checkMovieAndRoomExistence(Optional<Movie> movie, Optional<Room> room)
+            throws NotFoundException {
+        if (movie.isEmpty() && room.isEmpty()) {
+            throw new NotFoundException("The given movie and room do not found");
+        } else if (room.isEmpty()) {
+            throw new NotFoundException("The given room does not found");
+        } else if (movie.isEmpty()) {
+            throw new NotFoundException("The given movie does not found");
+        }
+    }
+}
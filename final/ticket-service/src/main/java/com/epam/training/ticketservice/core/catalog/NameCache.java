@@ -0,0 +1,89 @@
+package com.epam.training.ticketservice.core.catalog;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public class NameCache<V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long invalidations;
+
+    public NameCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public NameCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > NameCache.this.maxSize;
+            }
+        };
+    }
+
+    public Optional<V> get(String name, Function<String, Optional<V>> loader) {
+        long version;
+        synchronized (this) {
+            Entry<V> entry = entries.get(name);
+            if (entry != null && nanoTime.getAsLong() - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+            if (entry != null) {
+                entries.remove(name);
+            }
+            version = invalidations;
+        }
+
+        misses.increment();
+        Optional<V> loaded = loader.apply(name);
+        if (loaded.isPresent()) {
+            synchronized (this) {
+                if (version == invalidations) {
+                    entries.put(name, new Entry<>(loaded.get(), nanoTime.getAsLong()));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(String name, V value) {
+        entries.put(name, new Entry<>(value, nanoTime.getAsLong()));
+    }
+
+    public synchronized void invalidate(String name) {
+        invalidations++;
+        entries.remove(name);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    public record Stats(long hits, long misses, int size) {
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
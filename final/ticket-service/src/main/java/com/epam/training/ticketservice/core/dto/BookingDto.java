@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.dto;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import java.util.List;
+
+public record BookingDto(List<Seat> seats, int price) {
+}
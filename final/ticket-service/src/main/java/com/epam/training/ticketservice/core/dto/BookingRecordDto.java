@@ -0,0 +1,18 @@
+package com.epam.training.ticketservice.core.dto;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A past booking as it was made: the names and the price are copied at booking time and never recomputed.
+ */
+public record BookingRecordDto(long id, List<Seat> seats, String movie, String room, LocalDateTime screeningTime,
+                               int price) {
+
+    public BookingRecordDto(long id, String seats, String movie, String room, LocalDateTime screeningTime,
+                            int price) {
+        this(id, Seat.parseList(seats), movie, room, screeningTime, price);
+    }
+}
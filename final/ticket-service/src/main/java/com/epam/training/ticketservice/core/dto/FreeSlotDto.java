@@ -0,0 +1,6 @@
+package com.epam.training.ticketservice.core.dto;
+
+import java.time.LocalDateTime;
+
+public record FreeSlotDto(String room, LocalDateTime earliestStart, LocalDateTime latestStart) {
+}
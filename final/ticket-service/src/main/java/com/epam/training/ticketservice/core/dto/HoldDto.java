@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.dto;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import java.time.Duration;
+import java.util.List;
+
+public record HoldDto(long id, List<Seat> seats, Duration holdTime) {
+}
@@ -0,0 +1,6 @@
+package com.epam.training.ticketservice.core.dto;
+
+import java.util.List;
+
+public record ImportResultDto(int imported, List<String> rejectedRows) {
+}
@@ -11,18 +11,26 @@ public class MovieDto {
     private final int length;
 
     public MovieDto(Movie movie) {
-        name = movie.getName();
-        genre = movie.getGenre();
-        length = movie.getLength();
+        this(movie.getName(), movie.getGenre(), movie.getLength());
+    }
+
+    public MovieDto(String name, String genre, int length) {
+        this.name = name;
+        this.genre = genre;
+        this.length = length;
     }
 
     @Override
     public String toString() {
-        return name
-                + " ("
-                + genre
-                + ", "
-                + length
-                + " minutes)";
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(name)
+                .append(" (")
+                .append(genre)
+                .append(", ")
+                .append(length)
+                .append(" minutes)");
     }
 }
@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.dto;
+
+public record OccupancyDto(String name, long screenings, long capacity, long bookedSeats, long revenue) {
+
+    public double percentage() {
+        return capacity == 0 ? 0 : 100.0 * bookedSeats / capacity;
+    }
+}
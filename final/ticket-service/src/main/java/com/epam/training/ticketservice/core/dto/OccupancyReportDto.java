@@ -0,0 +1,6 @@
+package com.epam.training.ticketservice.core.dto;
+
+import java.util.List;
+
+public record OccupancyReportDto(List<OccupancyDto> rooms, List<OccupancyDto> movies, List<OccupancyDto> days) {
+}
@@ -11,21 +11,29 @@ public class RoomDto {
     private final int cols;
 
     public RoomDto(Room room) {
-        name = room.getName();
-        rows = room.getRows();
-        cols = room.getCols();
+        this(room.getName(), room.getRows(), room.getCols());
+    }
+
+    public RoomDto(String name, int rows, int cols) {
+        this.name = name;
+        this.rows = rows;
+        this.cols = cols;
     }
 
     @Override
     public String toString() {
-        return "Room "
-                + name
-                + " with "
-                + (rows * cols)
-                + " seats, "
-                + rows
-                + " rows and "
-                + cols
-                + " columns";
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append("Room ")
+                .append(name)
+                .append(" with ")
+                .append(rows * cols)
+                .append(" seats, ")
+                .append(rows)
+                .append(" rows and ")
+                .append(cols)
+                .append(" columns");
     }
 }
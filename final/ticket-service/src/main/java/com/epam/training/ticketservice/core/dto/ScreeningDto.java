@@ -12,6 +12,8 @@ import java.time.format.DateTimeFormatter;
 @RequiredArgsConstructor
 public class ScreeningDto {
 
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final MovieDto movieDto;
     private final RoomDto roomDto;
     private final LocalDateTime screeningTime;
@@ -22,14 +24,22 @@ public class ScreeningDto {
         screeningTime = screening.getScreeningTime();
     }
 
+    public ScreeningDto(String movieName, String genre, int length,
+                        String roomName, int rows, int cols, LocalDateTime screeningTime) {
+        this(new MovieDto(movieName, genre, length), new RoomDto(roomName, rows, cols), screeningTime);
+    }
+
     @Override
     public String toString() {
-        return movieDto.toString() + ", screened in room "
-                + roomDto.getName() + ", at "
-                + screeningTime.format(
-                DateTimeFormatter.ofPattern(
-                        "yyyy-MM-dd HH:mm"
-                )
-        );
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder builder) {
+        movieDto.appendTo(builder)
+                .append(", screened in room ")
+                .append(roomDto.getName())
+                .append(", at ");
+        DATE_TIME_FORMATTER.formatTo(screeningTime, builder);
+        return builder;
     }
 }
@@ -0,0 +1,16 @@
+package com.epam.training.ticketservice.core.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters of a screening listing, {@code null} meaning "any". The period includes {@code from} and excludes
+ * {@code to}, so a day is listed with {@code from} at midnight and {@code to} at the next midnight.
+ */
+public record ScreeningFilterDto(String movie, String room, String genre, LocalDateTime from, LocalDateTime to) {
+
+    public static final ScreeningFilterDto NONE = new ScreeningFilterDto(null, null, null, null, null);
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+}
@@ -0,0 +1,4 @@
+package com.epam.training.ticketservice.core.dto;
+
+public record SnapshotDto(int movies, int rooms, int screenings, long millis) {
+}
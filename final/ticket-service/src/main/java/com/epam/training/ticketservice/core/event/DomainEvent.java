@@ -0,0 +1,45 @@
+package com.epam.training.ticketservice.core.event;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Something that changed in the catalog, the schedule or the bookings, published on the {@link DomainEventBus} once
+ * the change is saved and journaled.
+ */
+public sealed interface DomainEvent {
+
+    record MovieCreated(String name, String genre, int length) implements DomainEvent {
+    }
+
+    record MovieUpdated(String name, String genre, int length) implements DomainEvent {
+    }
+
+    record MovieDeleted(String name) implements DomainEvent {
+    }
+
+    record RoomCreated(String name, int rows, int cols) implements DomainEvent {
+    }
+
+    record RoomUpdated(String name, int rows, int cols) implements DomainEvent {
+    }
+
+    record RoomDeleted(String name) implements DomainEvent {
+    }
+
+    record ScreeningCreated(String movie, String room, LocalDateTime screeningTime) implements DomainEvent {
+    }
+
+    record ScreeningDeleted(String movie, String room, LocalDateTime screeningTime) implements DomainEvent {
+    }
+
+    record SeatsBooked(String username, String movie, String room, LocalDateTime screeningTime, List<Seat> seats,
+                       int price) implements DomainEvent {
+    }
+
+    record BookingCancelled(String username, String movie, String room, LocalDateTime screeningTime,
+                            List<Seat> seats, int price) implements DomainEvent {
+    }
+}
@@ -0,0 +1,187 @@
+package com.epam.training.ticketservice.core.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands the {@link DomainEvent}s to the {@link DomainEventConsumer}s without running them on the publishing thread.
+ *
+ * <p>The events go into a ring buffer whose slots are allocated once. Publishing claims the next sequence with one
+ * atomic increment, stores the event in its slot and marks the slot as published; no lock is taken and no consumer is
+ * called. Every consumer has a thread of its own that takes all the published events it has not seen yet, up to
+ * {@code ticket-service.events.max-batch}, and then moves its own sequence past them. A publisher that would overwrite
+ * an event the slowest consumer has not handled yet waits until it has, so a slow consumer slows the writers down
+ * instead of losing events or growing a queue.
+ *
+ * <p>A publisher checks whether the bus is closed only after it has claimed its sequence, and {@link #close()} reads
+ * the last claimed sequence only after it has closed the bus, so every publish that does not fail is at or before that
+ * sequence. Closing lets the workers run until they have handled everything up to it and only then stops them. A
+ * publisher that finds the bus closed still fills its slot, with no event, so that the workers do not wait for it.
+ *
+ * <p>The caches in front of the database are still evicted by the services themselves: a read right after a change
+ * must not see the old value, which an eviction on another thread could not promise.
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DomainEvent[] events;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int maxBatch;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // the slowest consumer's sequence as last seen by a publisher, only refreshed when the buffer looks full
+    private final AtomicLong consumedCache = new AtomicLong(-1);
+    private final List<Worker> workers = new ArrayList<>();
+    private volatile boolean closed;
+    private volatile boolean stopped;
+
+    public DomainEventBus(List<DomainEventConsumer> consumers,
+                          @Value("${ticket-service.events.buffer-size:1024}") int bufferSize,
+                          @Value("${ticket-service.events.max-batch:256}") int maxBatch) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("The event buffer size must be a power of two");
+        }
+        this.events = new DomainEvent[bufferSize];
+        this.published = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            published.set(i, -1);
+        }
+        this.mask = bufferSize - 1;
+        this.maxBatch = maxBatch;
+        for (DomainEventConsumer consumer : consumers) {
+            workers.add(new Worker(consumer));
+        }
+        workers.forEach(worker -> worker.thread.start());
+    }
+
+    public void publish(DomainEvent event) {
+        if (workers.isEmpty()) {
+            return;
+        } else if (closed) {
+            throw new IllegalStateException("The event bus is closed");
+        }
+        long sequence = claimed.incrementAndGet();
+        boolean rejected = closed;
+        long wrapPoint = sequence - events.length;
+        while (wrapPoint > consumedCache.get()) {
+            long consumed = slowestConsumed();
+            consumedCache.set(consumed);
+            if (wrapPoint > consumed) {
+                if (workers.stream().anyMatch(worker -> !worker.thread.isAlive())) {
+                    throw new IllegalStateException("The event bus has stopped");
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+        }
+        int index = indexOf(sequence);
+        events[index] = rejected ? null : event;
+        published.set(index, sequence);
+        if (rejected) {
+            throw new IllegalStateException("The event bus is closed");
+        }
+    }
+
+    /**
+     * The number of published events the slowest consumer has not handled yet.
+     */
+    public long backlog() {
+        return workers.isEmpty() ? 0 : claimed.get() - slowestConsumed();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        long last = claimed.get();
+        for (Worker worker : workers) {
+            while (worker.consumed.get() < last && worker.thread.isAlive()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        stopped = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+            worker.thread.join();
+        }
+    }
+
+    private long slowestConsumed() {
+        long slowest = Long.MAX_VALUE;
+        for (Worker worker : workers) {
+            slowest = Math.min(slowest, worker.consumed.get());
+        }
+        return slowest;
+    }
+
+    private int indexOf(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private final class Worker implements Runnable {
+
+        private final DomainEventConsumer consumer;
+        private final AtomicLong consumed = new AtomicLong(-1);
+        private final List<DomainEvent> batch;
+        private final Thread thread;
+
+        private Worker(DomainEventConsumer consumer) {
+            this.consumer = consumer;
+            this.batch = new ArrayList<>(maxBatch);
+            this.thread = new Thread(this, "events-" + consumer.getClass().getSimpleName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                long first = consumed.get();
+                long last = first;
+                while (last - first < maxBatch && published.get(indexOf(last + 1)) == last + 1) {
+                    last++;
+                    DomainEvent event = events[indexOf(last)];
+                    if (event != null) {
+                        batch.add(event);
+                    }
+                }
+                if (last > first) {
+                    idle = 0;
+                    if (!batch.isEmpty()) {
+                        deliver();
+                    }
+                    consumed.set(last);
+                } else if (stopped) {
+                    return;
+                } else if (++idle < IDLE_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }
+
+        private void deliver() {
+            try {
+                consumer.onEvents(Collections.unmodifiableList(batch));
+            } catch (RuntimeException e) {
+                log.warn("{} could not handle {} events", consumer.getClass().getSimpleName(), batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
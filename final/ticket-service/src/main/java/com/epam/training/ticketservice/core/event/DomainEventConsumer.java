@@ -0,0 +1,16 @@
+package com.epam.training.ticketservice.core.event;
+
+import java.util.List;
+
+/**
+ * Handles the {@link DomainEvent}s on a thread of its own. Every consumer bean is registered on the
+ * {@link DomainEventBus} and gets each event once, in the order they were published.
+ */
+public interface DomainEventConsumer {
+
+    /**
+     * Handles the events that were published since the previous call, at most {@code ticket-service.events.max-batch}
+     * of them. The list is reused for the next batch, so it must not be kept.
+     */
+    void onEvents(List<DomainEvent> events);
+}
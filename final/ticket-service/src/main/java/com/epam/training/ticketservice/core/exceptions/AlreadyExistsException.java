@@ -2,7 +2,7 @@ package com.epam.training.ticketservice.core.exceptions;
 
 public class AlreadyExistsException extends Exception {
 
-    public AlreadyExistsException(String what) {
-        super(what + " already exists");
+    public AlreadyExistsException(String message) {
+        super(message);
     }
 }
@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.exceptions;
+
+public class RoomBusyException extends Exception {
+
+    public RoomBusyException(String what) {
+        super(what);
+    }
+}
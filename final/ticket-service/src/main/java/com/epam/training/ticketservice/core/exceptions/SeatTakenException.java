@@ -0,0 +1,8 @@
+package com.epam.training.ticketservice.core.exceptions;
+
+public class SeatTakenException extends Exception {
+
+    public SeatTakenException(String what) {
+        super(what);
+    }
+}
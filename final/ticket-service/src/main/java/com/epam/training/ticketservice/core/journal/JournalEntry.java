@@ -0,0 +1,120 @@
+package com.epam.training.ticketservice.core.journal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * One operation in the journal, with its arguments in the same textual form the shell accepts them.
+ *
+ * <p>On disk every entry is a frame of {@code payload length, CRC32 of the payload, payload}, and the payload is
+ * {@code operation code, timestamp in epoch millis, argument count, arguments as UTF-8 prefixed with their length}.
+ * A frame that is cut short or fails its checksum marks the end of the journal: it can only be the tail of a write
+ * that was interrupted by a crash.
+ */
+public record JournalEntry(JournalOperation operation, long timestamp, List<String> arguments) {
+
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_PAYLOAD_BYTES = 1024 * 1024;
+
+    public JournalEntry {
+        if (arguments.size() != operation.arity()) {
+            throw new IllegalArgumentException(operation + " takes " + operation.arity() + " arguments");
+        }
+        arguments = List.copyOf(arguments);
+    }
+
+    public static JournalEntry of(JournalOperation operation, Object... arguments) {
+        return new JournalEntry(operation, System.currentTimeMillis(),
+                Arrays.stream(arguments).map(String::valueOf).toList());
+    }
+
+    public String argument(int index) {
+        return arguments.get(index);
+    }
+
+    public ByteBuffer encode() {
+        List<byte[]> encodedArguments = new ArrayList<>(arguments.size());
+        int payloadSize = 1 + Long.BYTES + 1;
+        for (String argument : arguments) {
+            byte[] bytes = argument.getBytes(StandardCharsets.UTF_8);
+            encodedArguments.add(bytes);
+            payloadSize += Integer.BYTES + bytes.length;
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payloadSize);
+        frame.position(FRAME_HEADER_BYTES);
+        frame.put((byte) operation.code());
+        frame.putLong(timestamp);
+        frame.put((byte) encodedArguments.size());
+        for (byte[] bytes : encodedArguments) {
+            frame.putInt(bytes.length);
+            frame.put(bytes);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(frame.array(), FRAME_HEADER_BYTES, payloadSize);
+        frame.putInt(0, payloadSize);
+        frame.putInt(Integer.BYTES, (int) crc.getValue());
+        return frame.flip();
+    }
+
+    /**
+     * Hands every intact entry of the journal to {@code action} and returns the length of the intact prefix.
+     */
+    public static long readAll(Path path, Consumer<JournalEntry> action) throws IOException {
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024))) {
+            while (true) {
+                byte[] payload = readPayload(in);
+                if (payload == null) {
+                    return validLength;
+                }
+                action.accept(decode(payload));
+                validLength += FRAME_HEADER_BYTES + payload.length;
+            }
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] readPayload(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0 || length > MAX_PAYLOAD_BYTES) {
+                return null;
+            }
+            byte[] payload = in.readNBytes(length);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return payload.length == length && (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static JournalEntry decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        JournalOperation operation = JournalOperation.ofCode(buffer.get());
+        long timestamp = buffer.getLong();
+        int count = buffer.get();
+        List<String> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            arguments.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return new JournalEntry(operation, timestamp, arguments);
+    }
+}
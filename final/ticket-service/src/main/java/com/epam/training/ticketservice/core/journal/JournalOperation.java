@@ -0,0 +1,55 @@
+package com.epam.training.ticketservice.core.journal;
+
+import java.util.Arrays;
+
+/**
+ * The state-changing operations that are written to the {@link OperationJournal}. The codes are part of the file
+ * format, so an operation keeps its code forever and new ones get the next free number.
+ */
+public enum JournalOperation {
+    SIGN_UP(1, 2),
+    CREATE_MOVIE(2, 3),
+    UPDATE_MOVIE(3, 3),
+    DELETE_MOVIE(4, 1),
+    CREATE_ROOM(5, 3),
+    UPDATE_ROOM(6, 3),
+    DELETE_ROOM(7, 1),
+    CREATE_SCREENING(8, 3),
+    DELETE_SCREENING(9, 3),
+    BOOK(10, 5),
+    UPDATE_BASE_PRICE(11, 1),
+    CREATE_PRICE_COMPONENT(12, 2),
+    ATTACH_PRICE_COMPONENT_TO_MOVIE(13, 2),
+    ATTACH_PRICE_COMPONENT_TO_ROOM(14, 2),
+    ATTACH_PRICE_COMPONENT_TO_SCREENING(15, 4),
+    CANCEL_BOOKING(16, 5);
+
+    private static final JournalOperation[] BY_CODE = new JournalOperation[17];
+
+    static {
+        Arrays.stream(values()).forEach(operation -> BY_CODE[operation.code] = operation);
+    }
+
+    private final int code;
+    private final int arity;
+
+    JournalOperation(int code, int arity) {
+        this.code = code;
+        this.arity = arity;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public static JournalOperation ofCode(int code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Unknown journal operation " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,153 @@
+package com.epam.training.ticketservice.core.journal;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.PriceComponentRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.UserRepo;
+import com.epam.training.ticketservice.core.security.PasswordHasher;
+import com.epam.training.ticketservice.core.service.BookingService;
+import com.epam.training.ticketservice.core.service.MovieService;
+import com.epam.training.ticketservice.core.service.PricingService;
+import com.epam.training.ticketservice.core.service.RoomService;
+import com.epam.training.ticketservice.core.service.ScreeningService;
+import com.epam.training.ticketservice.core.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds the state by running every journaled operation through the services again.
+ *
+ * <p>With {@code ticket-service.journal.replay=true} the journal at {@code ticket-service.journal.replay-from}
+ * (by default the live journal) is replayed on startup. Pointed at an empty database, e.g. the in-memory one, this
+ * restores everything the journal recorded. The journal keeps no record of how far a database has got, and
+ * replaying a deletion or a booking cancellation onto state that has moved on since would undo later changes, so a
+ * database that already holds anything beyond the admin account is refused.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JournalReplayer implements ApplicationRunner {
+
+    private final OperationJournal journal;
+    private final UserService userService;
+    private final MovieService movieService;
+    private final RoomService roomService;
+    private final ScreeningService screeningService;
+    private final BookingService bookingService;
+    private final PricingService pricingService;
+    private final UserRepo userRepo;
+    private final MovieRepo movieRepo;
+    private final RoomRepo roomRepo;
+    private final PriceComponentRepo priceComponentRepo;
+    private final boolean replayOnStartup;
+    private final Path replayFrom;
+
+    public JournalReplayer(OperationJournal journal, UserService userService, MovieService movieService,
+                           RoomService roomService, ScreeningService screeningService,
+                           BookingService bookingService, PricingService pricingService,
+                           UserRepo userRepo, MovieRepo movieRepo, RoomRepo roomRepo,
+                           PriceComponentRepo priceComponentRepo,
+                           @Value("${ticket-service.journal.replay:false}") boolean replayOnStartup,
+                           @Value("${ticket-service.journal.replay-from:${ticket-service.journal.path:"
+                                   + "data/operations.journal}}") Path replayFrom) {
+        this.journal = journal;
+        this.userService = userService;
+        this.movieService = movieService;
+        this.roomService = roomService;
+        this.screeningService = screeningService;
+        this.bookingService = bookingService;
+        this.pricingService = pricingService;
+        this.userRepo = userRepo;
+        this.movieRepo = movieRepo;
+        this.roomRepo = roomRepo;
+        this.priceComponentRepo = priceComponentRepo;
+        this.replayOnStartup = replayOnStartup;
+        this.replayFrom = replayFrom;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (replayOnStartup) {
+            Result result = replay(replayFrom);
+            log.info("Replayed {} operations from {}, {} of them failed again",
+                    result.replayed(), replayFrom, result.failed());
+        }
+    }
+
+    public Result replay(Path path) throws IOException {
+        if (userRepo.count() > 1 || movieRepo.count() > 0 || roomRepo.count() > 0 || priceComponentRepo.count() > 0) {
+            throw new IllegalStateException("The journal can only be replayed into an empty database");
+        }
+        AtomicInteger replayed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        JournalEntry.readAll(path, entry -> {
+            replayed.incrementAndGet();
+            try {
+                journal.withoutJournaling(() -> {
+                    apply(entry);
+                    return null;
+                });
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.debug("Skipping {}: {}", entry, e.getMessage());
+            }
+        });
+        return new Result(replayed.get(), failed.get());
+    }
+
+    private void apply(JournalEntry entry) throws Exception {
+        switch (entry.operation()) {
+            case SIGN_UP -> signUp(entry.argument(0), entry.argument(1));
+            case CREATE_MOVIE -> movieService.createMovie(entry.argument(0), entry.argument(1),
+                    Integer.parseInt(entry.argument(2)));
+            case UPDATE_MOVIE -> movieService.updateMovie(entry.argument(0), entry.argument(1),
+                    Integer.parseInt(entry.argument(2)));
+            case DELETE_MOVIE -> movieService.deleteMovie(entry.argument(0));
+            case CREATE_ROOM -> roomService.createRoom(entry.argument(0),
+                    Integer.parseInt(entry.argument(1)), Integer.parseInt(entry.argument(2)));
+            case UPDATE_ROOM -> roomService.updateRoom(entry.argument(0),
+                    Integer.parseInt(entry.argument(1)), Integer.parseInt(entry.argument(2)));
+            case DELETE_ROOM -> roomService.deleteRoom(entry.argument(0));
+            case CREATE_SCREENING -> screeningService.createScreening(entry.argument(0), entry.argument(1),
+                    LocalDateTime.parse(entry.argument(2)));
+            case DELETE_SCREENING -> screeningService.deleteScreening(entry.argument(0), entry.argument(1),
+                    LocalDateTime.parse(entry.argument(2)));
+            case BOOK -> bookingService.book(entry.argument(0), entry.argument(1), entry.argument(2),
+                    LocalDateTime.parse(entry.argument(3)), Seat.parseList(entry.argument(4)));
+            case CANCEL_BOOKING -> bookingService.cancelBooking(entry.argument(0), entry.argument(1),
+                    entry.argument(2), LocalDateTime.parse(entry.argument(3)), Seat.parseList(entry.argument(4)));
+            case UPDATE_BASE_PRICE -> pricingService.updateBasePrice(Integer.parseInt(entry.argument(0)));
+            case CREATE_PRICE_COMPONENT -> pricingService.createPriceComponent(entry.argument(0),
+                    Integer.parseInt(entry.argument(1)));
+            case ATTACH_PRICE_COMPONENT_TO_MOVIE -> pricingService.attachToMovie(entry.argument(0),
+                    entry.argument(1));
+            case ATTACH_PRICE_COMPONENT_TO_ROOM -> pricingService.attachToRoom(entry.argument(0),
+                    entry.argument(1));
+            case ATTACH_PRICE_COMPONENT_TO_SCREENING -> pricingService.attachToScreening(entry.argument(0),
+                    entry.argument(1), entry.argument(2), LocalDateTime.parse(entry.argument(3)));
+            default -> throw new IllegalStateException("Unexpected journal operation " + entry.operation());
+        }
+    }
+
+    private void signUp(String name, String password) throws Exception {
+        if (PasswordHasher.isHash(password)) {
+            userService.restoreAccount(name, password);
+        } else {
+            userService.signUp(name, password);
+        }
+    }
+
+    public record Result(int replayed, int failed) {
+    }
+}
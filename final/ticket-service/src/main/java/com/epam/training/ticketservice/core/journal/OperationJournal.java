@@ -0,0 +1,225 @@
+package com.epam.training.ticketservice.core.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only journal of the state-changing operations, written after the database accepted them.
+ *
+ * <p>Callers hand their entries to a single writer thread and block until the entries are on disk. The writer takes
+ * whatever queued up while the previous {@code fsync} was running and writes it with one gathering write and one
+ * {@code fsync}, so under load many operations share the cost of a single sync (group commit).
+ *
+ * <p>Once the journal is closed, or the writer stopped for any other reason, appends are rejected and every write
+ * still waiting in the queue fails, so no caller is left blocked on an entry that will never be written.
+ */
+@Slf4j
+@Component
+public class OperationJournal {
+
+    private static final PendingWrite CLOSE = new PendingWrite(new ByteBuffer[0], 0, new CompletableFuture<>());
+
+    private final boolean enabled;
+    private final Path path;
+    private final int maxBatch;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final ThreadLocal<Boolean> suppressed = ThreadLocal.withInitial(() -> false);
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean closed;
+
+    public OperationJournal(@Value("${ticket-service.journal.enabled:false}") boolean enabled,
+                            @Value("${ticket-service.journal.path:data/operations.journal}") Path path,
+                            @Value("${ticket-service.journal.max-batch:1024}") int maxBatch) {
+        this.enabled = enabled;
+        this.path = path;
+        this.maxBatch = maxBatch;
+        if (enabled) {
+            open();
+        }
+    }
+
+    public void append(JournalOperation operation, Object... arguments) {
+        appendAll(List.of(JournalEntry.of(operation, arguments)));
+    }
+
+    /**
+     * Writes the entries as one group and returns once they have been synced to disk.
+     */
+    public void appendAll(List<JournalEntry> batch) {
+        enqueueAll(batch).await();
+    }
+
+    /**
+     * Queues the entry without waiting for it to reach the disk. Entries are written in the order they were queued,
+     * so a caller can queue under the lock that orders its operations and wait for the sync after releasing it.
+     */
+    public Pending enqueue(JournalOperation operation, Object... arguments) {
+        return enqueueAll(List.of(JournalEntry.of(operation, arguments)));
+    }
+
+    private Pending enqueueAll(List<JournalEntry> batch) {
+        if (!enabled || suppressed.get() || batch.isEmpty()) {
+            return Pending.WRITTEN;
+        }
+        ByteBuffer[] frames = batch.stream().map(JournalEntry::encode).toArray(ByteBuffer[]::new);
+        PendingWrite write = new PendingWrite(frames, batch.size(), new CompletableFuture<>());
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            queue.add(write);
+        }
+        return () -> {
+            try {
+                write.done().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the journal", e);
+            } catch (ExecutionException e) {
+                throw new UncheckedIOException("Could not write the journal", (IOException) e.getCause());
+            }
+        };
+    }
+
+    /**
+     * Runs {@code action} on the current thread without journaling what it does, e.g. while replaying the journal.
+     */
+    public <T> T withoutJournaling(Callable<T> action) throws Exception {
+        suppressed.set(true);
+        try {
+            return action.call();
+        } finally {
+            suppressed.remove();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long entryCount() {
+        return entries.get();
+    }
+
+    public long syncCount() {
+        return syncs.get();
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        Thread stopping;
+        synchronized (this) {
+            stopping = writer;
+            if (stopping == null) {
+                return;
+            }
+            writer = null;
+            closed = true;
+            queue.add(CLOSE);
+        }
+        stopping.join();
+        channel.close();
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            long validLength = JournalEntry.readAll(path, entry -> { });
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (channel.size() > validLength) {
+                log.warn("Dropping {} bytes of an interrupted write at the end of {}",
+                        channel.size() - validLength, path);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the journal " + path, e);
+        }
+        writer = new Thread(this::writeLoop, "journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>();
+        try {
+            boolean closing = false;
+            while (!closing) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                closing = batch.remove(CLOSE);
+                if (!batch.isEmpty()) {
+                    sync(batch);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            log.warn("The journal writer was interrupted, rejecting further appends");
+        } finally {
+            synchronized (this) {
+                closed = true;
+            }
+            queue.drainTo(batch);
+            IOException stopped = new IOException("The journal writer has stopped");
+            batch.forEach(write -> write.done().completeExceptionally(stopped));
+        }
+    }
+
+    private void sync(List<PendingWrite> batch) {
+        try {
+            ByteBuffer[] frames = batch.stream()
+                    .flatMap(write -> List.of(write.frames()).stream())
+                    .toArray(ByteBuffer[]::new);
+            long remaining = 0;
+            for (ByteBuffer frame : frames) {
+                remaining += frame.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(frames);
+            }
+            channel.force(false);
+            syncs.incrementAndGet();
+            batch.forEach(write -> {
+                entries.addAndGet(write.entryCount());
+                write.done().complete(null);
+            });
+        } catch (IOException e) {
+            batch.forEach(write -> write.done().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Entries queued with {@link #enqueue}, {@link #await()} returns once they have been synced to disk.
+     */
+    @FunctionalInterface
+    public interface Pending {
+
+        Pending WRITTEN = () -> { };
+
+        void await();
+    }
+
+    private record PendingWrite(ByteBuffer[] frames, int entryCount, CompletableFuture<Void> done) {
+    }
+}
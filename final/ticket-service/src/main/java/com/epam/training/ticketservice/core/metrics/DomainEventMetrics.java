@@ -0,0 +1,36 @@
+package com.epam.training.ticketservice.core.metrics;
+
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class DomainEventMetrics implements DomainEventConsumer {
+
+    public static final String EVENTS = "ticketservice.events";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Map<Class<?>, Long> counts = events.stream()
+                .collect(Collectors.groupingBy(DomainEvent::getClass, Collectors.counting()));
+        counts.forEach((type, count) -> counterOf(type).increment(count));
+    }
+
+    private Counter counterOf(Class<?> type) {
+        return counters.computeIfAbsent(type, key -> Counter.builder(EVENTS)
+                .tag("type", key.getSimpleName())
+                .register(meterRegistry));
+    }
+}
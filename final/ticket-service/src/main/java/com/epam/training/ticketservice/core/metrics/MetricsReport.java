@@ -0,0 +1,104 @@
+package com.epam.training.ticketservice.core.metrics;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.catalog.NameCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class MetricsReport {
+
+    public static final String REPOSITORY_TIMER = "spring.data.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final CatalogLookup catalogLookup;
+
+    public String render() {
+        StringBuilder report = new StringBuilder();
+        appendTimers(report, "Service methods", InvocationMetrics.SERVICE_TIMER,
+                timer -> timer.getId().getTag("service") + "." + timer.getId().getTag("method")
+                        + outcomeOf(timer.getId().getTag("outcome")));
+        appendTimers(report, "Shell commands", InvocationMetrics.COMMAND_TIMER,
+                timer -> timer.getId().getTag("command"));
+        appendTimers(report, "Repository calls", REPOSITORY_TIMER,
+                timer -> timer.getId().getTag("repository") + "." + timer.getId().getTag("method"));
+        appendEvents(report);
+        report.append("Catalog caches:");
+        appendCache(report, "movie", catalogLookup.movieCacheStats());
+        appendCache(report, "room", catalogLookup.roomCacheStats());
+        return report.toString();
+    }
+
+    private void appendTimers(StringBuilder report, String title, String name, Function<Timer, String> label) {
+        List<Timer> timers = meterRegistry.find(name).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .sorted(Comparator.comparing(label))
+                .toList();
+        if (timers.isEmpty()) {
+            return;
+        }
+
+        report.append(title).append(':');
+        for (Timer timer : timers) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            report.append(System.lineSeparator())
+                    .append(label.apply(timer))
+                    .append(": ").append(snapshot.count()).append(" calls, mean ")
+                    .append(millis(snapshot.mean(TimeUnit.MILLISECONDS)));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                report.append(", p").append(Math.round(percentile.percentile() * 100)).append(' ')
+                        .append(millis(percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            report.append(", max ").append(millis(snapshot.max(TimeUnit.MILLISECONDS)));
+        }
+        report.append(System.lineSeparator());
+    }
+
+    private void appendEvents(StringBuilder report) {
+        List<Counter> counters = meterRegistry.find(DomainEventMetrics.EVENTS).counters().stream()
+                .sorted(Comparator.comparing(counter -> counter.getId().getTag("type")))
+                .toList();
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        report.append("Domain events:");
+        for (Counter counter : counters) {
+            report.append(System.lineSeparator())
+                    .append(counter.getId().getTag("type")).append(": ")
+                    .append(Math.round(counter.count()));
+        }
+        report.append(System.lineSeparator());
+    }
+
+    private static void appendCache(StringBuilder report, String cache, NameCache.Stats stats) {
+        long lookups = stats.hits() + stats.misses();
+        double hitRatio = lookups == 0 ? 0 : 100.0 * stats.hits() / lookups;
+        report.append(System.lineSeparator())
+                .append(cache).append(": ")
+                .append(stats.hits()).append(" hits, ")
+                .append(stats.misses()).append(" misses, ")
+                .append(String.format(Locale.ROOT, "%.1f%% hit ratio, ", hitRatio))
+                .append(stats.size()).append(" entries");
+    }
+
+    private static String outcomeOf(String outcome) {
+        return outcome == null || outcome.equals("success") ? "" : " (" + outcome + ")";
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.2f ms", value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.training.ticketservice.core.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final InvocationMetrics invocationMetrics;
+
+    @Around("execution(public * com.epam.training.ticketservice.core.service.impl.*.*(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return invocationMetrics.timeWithOutcome(InvocationMetrics.SERVICE_TIMER,
+                Tags.of("service", joinPoint.getTarget().getClass().getSimpleName(),
+                        "method", joinPoint.getSignature().getName()),
+                joinPoint);
+    }
+}
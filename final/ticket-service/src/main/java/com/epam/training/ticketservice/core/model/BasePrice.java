@@ -0,0 +1,23 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+@Data
+@NoArgsConstructor
+public class BasePrice {
+
+    public static final long ID = 1;
+    public static final int DEFAULT_AMOUNT = 1500;
+
+    @Id
+    private long id = ID;
+    private int amount;
+
+    public BasePrice(int amount) {
+        this.amount = amount;
+    }
+}
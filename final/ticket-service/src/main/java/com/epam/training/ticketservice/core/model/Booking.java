@@ -0,0 +1,50 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * A booking together with a snapshot of what was booked. The movie, room and start time are copied from the
+ * screening and the price is the one charged, so the booking reads the same after the screening or the pricing
+ * changes.
+ */
+@Entity
+@Table(indexes = @Index(columnList = "user_id, id"))
+@Data
+@NoArgsConstructor
+public class Booking {
+
+    @Id
+    @GeneratedValue
+    private long id;
+    @ManyToOne
+    @JoinColumn(name = "user_id", referencedColumnName = "id")
+    private User user;
+    @ManyToOne
+    @JoinColumn(name = "screening_id", referencedColumnName = "id")
+    private Screening screening;
+    private String seats;
+    private int price;
+    private String movieName;
+    private String roomName;
+    private LocalDateTime screeningTime;
+
+    public Booking(User user, Screening screening, String seats, int price) {
+        this.user = user;
+        this.screening = screening;
+        this.seats = seats;
+        this.price = price;
+        this.movieName = screening.getMovie().getName();
+        this.roomName = screening.getRoom().getName();
+        this.screeningTime = screening.getScreeningTime();
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"component_id", "target_type", "target_id"}),
+        indexes = @Index(columnList = "target_type, target_id")
+)
+@Data
+@NoArgsConstructor
+public class PriceAttachment {
+
+    @Id
+    @GeneratedValue
+    private long id;
+    @ManyToOne
+    @JoinColumn(name = "component_id", referencedColumnName = "id")
+    private PriceComponent component;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type")
+    private TargetType targetType;
+    @Column(name = "target_id")
+    private long targetId;
+
+    public PriceAttachment(PriceComponent component, TargetType targetType, long targetId) {
+        this.component = component;
+        this.targetType = targetType;
+        this.targetId = targetId;
+    }
+
+    public enum TargetType {
+        MOVIE,
+        ROOM,
+        SCREENING
+    }
+}
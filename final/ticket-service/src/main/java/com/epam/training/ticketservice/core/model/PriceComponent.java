@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+@Entity
+@Data
+@NoArgsConstructor
+public class PriceComponent {
+
+    @Id
+    @GeneratedValue
+    private long id;
+    @Column(unique = true)
+    private String name;
+    private int amount;
+
+    public PriceComponent(String name, int amount) {
+        this.name = name;
+        this.amount = amount;
+    }
+}
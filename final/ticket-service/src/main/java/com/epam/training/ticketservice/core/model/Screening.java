@@ -5,18 +5,28 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"movie_id", "room_id", "screeningTime"}),
+        indexes = {@Index(columnList = "room_id, screeningTime"), @Index(columnList = "movie_id, screeningTime")}
+)
 @Data
 @NoArgsConstructor
 public class Screening {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "screening_seq")
+    @SequenceGenerator(name = "screening_seq", allocationSize = 50)
     private long id;
     @ManyToOne
     @JoinColumn(name = "movie_id", referencedColumnName = "id")
@@ -0,0 +1,93 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.BasePrice;
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.BasePriceRepo;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@RequiredArgsConstructor
+public class PriceCatalog {
+
+    private final BasePriceRepo basePriceRepo;
+    private final PriceAttachmentRepo priceAttachmentRepo;
+    private final Map<Long, CompiledSurcharge> surcharges = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Integer> basePrice = new AtomicReference<>();
+
+    public int priceFor(Screening screening, int seatCount) {
+        return (basePrice() + surchargeOf(screening)) * seatCount;
+    }
+
+    public int basePrice() {
+        Integer current = basePrice.get();
+        if (current != null) {
+            return current;
+        }
+
+        long loadedAt = version.get();
+        Integer loaded = basePriceRepo.findById(BasePrice.ID)
+                .map(BasePrice::getAmount)
+                .orElse(BasePrice.DEFAULT_AMOUNT);
+        basePrice.compareAndSet(null, loaded);
+        if (version.get() != loadedAt) {
+            basePrice.compareAndSet(loaded, null);
+        }
+        return loaded;
+    }
+
+    public void updateBasePrice(int amount) {
+        version.incrementAndGet();
+        basePriceRepo.save(new BasePrice(amount));
+        basePrice.set(amount);
+    }
+
+    public int surchargeOf(Screening screening) {
+        CompiledSurcharge compiled = surcharges.get(screening.getId());
+        if (compiled != null) {
+            return compiled.amount();
+        }
+
+        long compiledAt = version.get();
+        compiled = new CompiledSurcharge(
+                screening.getMovie().getId(),
+                screening.getRoom().getId(),
+                (int) priceAttachmentRepo.sumAmountFor(
+                        screening.getMovie().getId(),
+                        screening.getRoom().getId(),
+                        screening.getId()
+                )
+        );
+        surcharges.put(screening.getId(), compiled);
+        if (version.get() != compiledAt) {
+            surcharges.remove(screening.getId(), compiled);
+        }
+        return compiled.amount();
+    }
+
+    public void invalidate(PriceAttachment.TargetType targetType, long targetId) {
+        version.incrementAndGet();
+        switch (targetType) {
+            case MOVIE -> surcharges.values().removeIf(compiled -> compiled.movieId() == targetId);
+            case ROOM -> surcharges.values().removeIf(compiled -> compiled.roomId() == targetId);
+            default -> surcharges.remove(targetId);
+        }
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        surcharges.clear();
+        basePrice.set(null);
+    }
+
+    private record CompiledSurcharge(long movieId, long roomId, int amount) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.epam.training.ticketservice.core.report;
+
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Occupancy and revenue of every screening, room, movie and day, updated by the services on every change instead of
+ * being computed from the bookings when a report is asked for.
+ *
+ * <p>Each aggregate is a {@link Tally} of {@link LongAdder}s, so neither reading nor updating one takes a lock shared
+ * with other screenings. A change to a screening only holds that screening's tally while it adds the same amounts to
+ * the room, movie and day, so a booking racing with the removal of its screening is either counted and subtracted or
+ * not counted at all. Deleting a movie or a room and resizing a room walk the screenings in memory, which is fine for
+ * rare admin operations. On startup the counters are rebuilt from the screenings and the snapshot columns of the
+ * bookings.
+ *
+ * <p>A change holds a {@link Change} from before it writes the database until it has updated the counters. A rebuild
+ * stops new changes at that gate, waits for the ones already past it and only then reads the database, so every
+ * change is either in what it reads or applied to the counters it installs. The changes in flight are counted in
+ * padded stripes picked by thread, so entering the gate does not contend on a shared word.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class OccupancyCounters implements ApplicationRunner {
+
+    private static final int GATE_STRIPES = 64;
+    // one stripe per 128 bytes, so threads on different stripes do not share a cache line
+    private static final int GATE_PADDING = 16;
+    private static final long DRAIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final ScreeningRepo screeningRepo;
+    private final BookingRepo bookingRepo;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicLongArray inFlight = new AtomicLongArray(GATE_STRIPES * GATE_PADDING);
+    private final Object gate = new Object();
+    private volatile boolean counting;
+    private volatile Counters counters = new Counters();
+
+    public OccupancyCounters(ScreeningRepo screeningRepo, BookingRepo bookingRepo,
+                             PlatformTransactionManager transactionManager) {
+        this.screeningRepo = screeningRepo;
+        this.bookingRepo = bookingRepo;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * Replaces the counters with ones computed from the database. Changes wait at the gate while it is read.
+     */
+    public void rebuild() {
+        synchronized (gate) {
+            counting = true;
+        }
+        try {
+            while (changesInFlight() > 0) {
+                LockSupport.parkNanos(DRAIN_PARK_NANOS);
+            }
+            counters = readOnlyTransaction.execute(status -> load());
+        } finally {
+            synchronized (gate) {
+                counting = false;
+                gate.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Enters the gate, waiting while a rebuild reads the database. Taken before any lock the change needs and not
+     * nested, so a rebuild waiting for the changes in flight cannot wait on a change that waits for it.
+     */
+    public Change beginChange() {
+        int index = Math.floorMod(Long.hashCode(Thread.currentThread().getId()), GATE_STRIPES) * GATE_PADDING;
+        while (true) {
+            inFlight.incrementAndGet(index);
+            if (!counting) {
+                return () -> inFlight.decrementAndGet(index);
+            }
+            inFlight.decrementAndGet(index);
+            awaitRebuild();
+        }
+    }
+
+    public void addScreening(Screening screening) {
+        counters.addScreening(screening.getMovie().getName(), screening.getRoom().getName(),
+                screening.getScreeningTime(), (long) screening.getRoom().getRows() * screening.getRoom().getCols());
+    }
+
+    public void removeScreening(String room, LocalDateTime screeningTime) {
+        Counters current = counters;
+        ScreeningTally removed = current.screenings.remove(new ScreeningKey(room, screeningTime));
+        if (removed != null) {
+            current.subtract(removed);
+        }
+    }
+
+    public void removeMovie(String movie) {
+        Counters current = counters;
+        removeScreenings(current, screening -> screening.movie.equals(movie));
+        current.movies.remove(movie);
+    }
+
+    public void removeRoom(String room) {
+        Counters current = counters;
+        removeScreenings(current, screening -> screening.room.equals(room));
+        current.rooms.remove(room);
+    }
+
+    public void resizeRoom(String room, long capacity) {
+        Counters current = counters;
+        for (ScreeningTally screening : current.screenings.values()) {
+            if (screening.room.equals(room)) {
+                synchronized (screening) {
+                    if (!screening.removed) {
+                        long delta = capacity - screening.capacity.sum();
+                        current.add(screening, 0, delta, 0, 0);
+                    }
+                }
+            }
+        }
+    }
+
+    public void addBooking(String room, LocalDateTime screeningTime, int seats, long revenue) {
+        Counters current = counters;
+        ScreeningTally screening = current.screenings.get(new ScreeningKey(room, screeningTime));
+        if (screening != null) {
+            synchronized (screening) {
+                if (!screening.removed) {
+                    current.add(screening, 0, 0, seats, revenue);
+                }
+            }
+        }
+    }
+
+    public void removeBooking(String room, LocalDateTime screeningTime, int seats, long revenue) {
+        addBooking(room, screeningTime, -seats, -revenue);
+    }
+
+    public Optional<OccupancyDto> screening(String room, LocalDateTime screeningTime) {
+        return Optional.ofNullable(counters.screenings.get(new ScreeningKey(room, screeningTime)))
+                .map(tally -> tally.toDto(room));
+    }
+
+    public OccupancyDto room(String room) {
+        return occupancyOf(counters.rooms, room, room);
+    }
+
+    public OccupancyDto movie(String movie) {
+        return occupancyOf(counters.movies, movie, movie);
+    }
+
+    public OccupancyDto day(LocalDate day) {
+        return occupancyOf(counters.days, day, day.toString());
+    }
+
+    public List<OccupancyDto> rooms() {
+        return sorted(counters.rooms);
+    }
+
+    public List<OccupancyDto> movies() {
+        return sorted(counters.movies);
+    }
+
+    public List<OccupancyDto> days() {
+        return sorted(counters.days);
+    }
+
+    public void clear() {
+        counters = new Counters();
+    }
+
+    private long changesInFlight() {
+        long changes = 0;
+        for (int i = 0; i < GATE_STRIPES; i++) {
+            changes += inFlight.get(i * GATE_PADDING);
+        }
+        return changes;
+    }
+
+    private void awaitRebuild() {
+        synchronized (gate) {
+            while (counting) {
+                try {
+                    gate.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while the occupancy counters were rebuilt", e);
+                }
+            }
+        }
+    }
+
+    private Counters load() {
+        Counters loaded = new Counters();
+        try (Stream<ScreeningDto> screenings = screeningRepo.streamScreeningDtos()) {
+            screenings.forEach(screening -> loaded.addScreening(screening.getMovieDto().getName(),
+                    screening.getRoomDto().getName(), screening.getScreeningTime(),
+                    (long) screening.getRoomDto().getRows() * screening.getRoomDto().getCols()));
+        }
+        try (Stream<BookingRecordDto> bookings = bookingRepo.streamBookingRecords()) {
+            bookings.forEach(booking -> {
+                ScreeningTally screening = loaded.screenings.get(
+                        new ScreeningKey(booking.room(), booking.screeningTime()));
+                if (screening != null) {
+                    loaded.add(screening, 0, 0, booking.seats().size(), booking.price());
+                }
+            });
+        }
+        return loaded;
+    }
+
+    private static void removeScreenings(Counters current, Predicate<ScreeningTally> filter) {
+        current.screenings.values().removeIf(screening -> {
+            if (filter.test(screening)) {
+                current.subtract(screening);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static <K> OccupancyDto occupancyOf(Map<K, Tally> tallies, K key, String name) {
+        Tally tally = tallies.get(key);
+        return tally == null ? new OccupancyDto(name, 0, 0, 0, 0) : tally.toDto(name);
+    }
+
+    private static <K> List<OccupancyDto> sorted(Map<K, Tally> tallies) {
+        return tallies.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey().toString()))
+                .sorted(Comparator.comparing(OccupancyDto::name))
+                .toList();
+    }
+
+    /**
+     * A change to the screenings or bookings that a rebuild waits for. Closed once the counters are updated.
+     */
+    public interface Change extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private record ScreeningKey(String room, LocalDateTime screeningTime) {
+    }
+
+    private static final class Counters {
+
+        private final Map<ScreeningKey, ScreeningTally> screenings = new ConcurrentHashMap<>();
+        private final Map<String, Tally> rooms = new ConcurrentHashMap<>();
+        private final Map<String, Tally> movies = new ConcurrentHashMap<>();
+        private final Map<LocalDate, Tally> days = new ConcurrentHashMap<>();
+
+        private void addScreening(String movie, String room, LocalDateTime screeningTime, long capacity) {
+            ScreeningTally screening = new ScreeningTally(movie, room, screeningTime.toLocalDate());
+            // held while the screening is published, so nothing can remove it before its counts are added
+            synchronized (screening) {
+                if (screenings.putIfAbsent(new ScreeningKey(room, screeningTime), screening) == null) {
+                    add(screening, 1, capacity, 0, 0);
+                }
+            }
+        }
+
+        /**
+         * Adds to the screening and its room, movie and day. The caller holds the screening's tally.
+         */
+        private void add(ScreeningTally screening, long screenings, long capacity, long bookedSeats, long revenue) {
+            screening.add(screenings, capacity, bookedSeats, revenue);
+            tallies(screening).forEach(tally -> tally.add(screenings, capacity, bookedSeats, revenue));
+        }
+
+        private void subtract(ScreeningTally screening) {
+            synchronized (screening) {
+                screening.removed = true;
+                OccupancyDto removed = screening.toDto(screening.room);
+                tallies(screening).forEach(tally -> tally.add(-removed.screenings(), -removed.capacity(),
+                        -removed.bookedSeats(), -removed.revenue()));
+            }
+        }
+
+        private Stream<Tally> tallies(ScreeningTally screening) {
+            return Stream.of(rooms.computeIfAbsent(screening.room, key -> new Tally()),
+                    movies.computeIfAbsent(screening.movie, key -> new Tally()),
+                    days.computeIfAbsent(screening.day, key -> new Tally()));
+        }
+    }
+
+    private static class Tally {
+
+        final LongAdder screenings = new LongAdder();
+        final LongAdder capacity = new LongAdder();
+        final LongAdder bookedSeats = new LongAdder();
+        final LongAdder revenue = new LongAdder();
+
+        void add(long screenings, long capacity, long bookedSeats, long revenue) {
+            this.screenings.add(screenings);
+            this.capacity.add(capacity);
+            this.bookedSeats.add(bookedSeats);
+            this.revenue.add(revenue);
+        }
+
+        OccupancyDto toDto(String name) {
+            return new OccupancyDto(name, screenings.sum(), capacity.sum(), bookedSeats.sum(), revenue.sum());
+        }
+    }
+
+    private static final class ScreeningTally extends Tally {
+
+        private final String movie;
+        private final String room;
+        private final LocalDate day;
+        private boolean removed;
+
+        private ScreeningTally(String movie, String room, LocalDate day) {
+            this.movie = movie;
+            this.room = room;
+            this.day = day;
+        }
+    }
+}
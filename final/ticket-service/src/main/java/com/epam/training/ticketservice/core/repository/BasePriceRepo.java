@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.BasePrice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BasePriceRepo extends JpaRepository<BasePrice, Long> {
+}
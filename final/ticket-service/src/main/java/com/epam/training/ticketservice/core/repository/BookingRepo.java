@@ -0,0 +1,42 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+@Repository
+public interface BookingRepo extends JpaRepository<Booking, Integer> {
+
+    List<Booking> findBookingsByScreening(Screening screening);
+
+    // bookings made before the snapshot columns existed have them empty and fall back to the current screening
+    String BOOKING_RECORD_DTO = "select new com.epam.training.ticketservice.core.dto.BookingRecordDto("
+            + "b.id, b.seats, coalesce(b.movieName, m.name), coalesce(b.roomName, r.name), "
+            + "coalesce(b.screeningTime, s.screeningTime), b.price) "
+            + "from Booking b left join b.screening s left join s.movie m left join s.room r ";
+
+    @Query(BOOKING_RECORD_DTO + "where b.user.username = :username order by b.id")
+    List<BookingRecordDto> findHistory(String username);
+
+    @Query(BOOKING_RECORD_DTO)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1024"), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<BookingRecordDto> streamBookingRecords();
+
+    @Modifying
+    @Transactional
+    @Query("delete from Booking b where b.id = :id")
+    int deleteBooking(long id);
+}
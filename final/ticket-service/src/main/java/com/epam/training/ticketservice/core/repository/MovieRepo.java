@@ -2,11 +2,20 @@ package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 @Repository
 public interface MovieRepo extends JpaRepository<Movie, Integer> {
 
     Optional<Movie> findByName(String name);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Movie m where m = :movie")
+    int deleteMovie(Movie movie);
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.PriceComponent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public interface PriceAttachmentRepo extends JpaRepository<PriceAttachment, Long> {
+
+    boolean existsByComponentAndTargetTypeAndTargetId(
+            PriceComponent component,
+            PriceAttachment.TargetType targetType,
+            long targetId
+    );
+
+    @Query("select coalesce(sum(a.component.amount), 0) from PriceAttachment a"
+            + " where (a.targetType = :movie and a.targetId = :movieId)"
+            + " or (a.targetType = :room and a.targetId = :roomId)"
+            + " or (a.targetType = :screening and a.targetId = :screeningId)")
+    long sumAmountFor(
+            @Param("movie") PriceAttachment.TargetType movie,
+            @Param("movieId") long movieId,
+            @Param("room") PriceAttachment.TargetType room,
+            @Param("roomId") long roomId,
+            @Param("screening") PriceAttachment.TargetType screening,
+            @Param("screeningId") long screeningId
+    );
+
+    default long sumAmountFor(long movieId, long roomId, long screeningId) {
+        return sumAmountFor(
+                PriceAttachment.TargetType.MOVIE, movieId,
+                PriceAttachment.TargetType.ROOM, roomId,
+                PriceAttachment.TargetType.SCREENING, screeningId
+        );
+    }
+
+    @Modifying
+    @Transactional
+    @Query("delete from PriceAttachment a where a.targetType = :targetType and a.targetId in :targetIds")
+    int deleteAttachments(
+            @Param("targetType") PriceAttachment.TargetType targetType,
+            @Param("targetIds") Collection<Long> targetIds
+    );
+}
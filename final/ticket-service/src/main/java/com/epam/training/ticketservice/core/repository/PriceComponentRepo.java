@@ -0,0 +1,12 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.PriceComponent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface PriceComponentRepo extends JpaRepository<PriceComponent, Integer> {
+
+    Optional<PriceComponent> findByName(String name);
+}
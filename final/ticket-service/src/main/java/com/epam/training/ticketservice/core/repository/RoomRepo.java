@@ -2,11 +2,20 @@ package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 @Repository
 public interface RoomRepo extends JpaRepository<Room, Integer> {
 
     Optional<Room> findByName(String name);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Room r where r = :room")
+    int deleteRoom(Room room);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+
+import java.time.LocalDateTime;
+
+public record ScreeningCriteria(Movie movie, Room room, String genre, LocalDateTime from, LocalDateTime to) {
+}
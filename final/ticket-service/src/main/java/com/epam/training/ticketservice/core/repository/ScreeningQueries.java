@@ -0,0 +1,17 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Screening queries whose conditions depend on which filters are given, so they are built at runtime.
+ */
+public interface ScreeningQueries {
+
+    List<ScreeningDto> findScreeningDtos(ScreeningCriteria criteria, Pageable pageable);
+
+    Stream<ScreeningDto> streamScreeningDtos(ScreeningCriteria criteria);
+}
@@ -0,0 +1,84 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+/**
+ * Builds the filtered listing with only the conditions that are set. A movie or a room is matched on the screening's
+ * own foreign key together with the period, so the query is answered from the {@code (movie_id, screening_time)} or
+ * {@code (room_id, screening_time)} index of {@link Screening} instead of scanning every screening.
+ */
+public class ScreeningQueriesImpl implements ScreeningQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ScreeningDto> findScreeningDtos(ScreeningCriteria criteria, Pageable pageable) {
+        TypedQuery<ScreeningDto> query = query(criteria);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<ScreeningDto> streamScreeningDtos(ScreeningCriteria criteria) {
+        return query(criteria)
+                .setHint(HINT_FETCH_SIZE, 256)
+                .setHint(HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<ScreeningDto> query(ScreeningCriteria criteria) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ScreeningDto> query = builder.createQuery(ScreeningDto.class);
+        Root<Screening> screening = query.from(Screening.class);
+        Join<Screening, Movie> movie = screening.join("movie");
+        Join<Screening, Room> room = screening.join("room");
+        Path<LocalDateTime> screeningTime = screening.get("screeningTime");
+        query.select(builder.construct(ScreeningDto.class,
+                movie.get("name"), movie.get("genre"), movie.get("length"),
+                room.get("name"), room.get("rows"), room.get("cols"), screeningTime));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.movie() != null) {
+            predicates.add(builder.equal(screening.get("movie"), criteria.movie()));
+        }
+        if (criteria.room() != null) {
+            predicates.add(builder.equal(screening.get("room"), criteria.room()));
+        }
+        if (criteria.genre() != null) {
+            predicates.add(builder.equal(movie.get("genre"), criteria.genre()));
+        }
+        if (criteria.from() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(screeningTime, criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(builder.lessThan(screeningTime, criteria.to()));
+        }
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(screeningTime), builder.asc(screening.get("id")));
+        return entityManager.createQuery(query);
+    }
+}
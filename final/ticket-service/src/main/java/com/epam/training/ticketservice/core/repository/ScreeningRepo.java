@@ -1,15 +1,34 @@
 package com.epam.training.ticketservice.core.repository;
 
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningSlotDto;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
-public interface ScreeningRepo extends JpaRepository<Screening, Integer> {
+public interface ScreeningRepo extends JpaRepository<Screening, Integer>, ScreeningQueries {
+
+    String SCREENING_DTO_QUERY = "select new com.epam.training.ticketservice.core.dto.ScreeningDto("
+            + "m.name, m.genre, m.length, r.name, r.rows, r.cols, s.screeningTime) "
+            + "from Screening s join s.movie m join s.room r order by s.id";
 
     Optional<Screening> findScreeningByMovieAndRoomAndScreeningTime(
             Movie movie,
@@ -17,5 +36,38 @@ public interface ScreeningRepo extends JpaRepository<Screening, Integer> {
             LocalDateTime screeningTime
     );
 
-    Optional<Screening> findScreeningByRoom(Room room);
-}
\ No newline at end of file
+    List<Screening> findScreeningsByRoom(Room room);
+
+    List<Screening> findScreeningsByMovie(Movie movie);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Screening s where s.movie = :movie and s.room = :room and s.screeningTime = :screeningTime")
+    int deleteScreening(Movie movie, Room room, LocalDateTime screeningTime);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Screening s where s.movie = :movie")
+    int deleteScreeningsOfMovie(Movie movie);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Screening s where s.room = :room")
+    int deleteScreeningsOfRoom(Room room);
+
+    @Query(SCREENING_DTO_QUERY)
+    List<ScreeningDto> findScreeningDtos();
+
+    @Query(SCREENING_DTO_QUERY)
+    Slice<ScreeningDto> findScreeningDtos(Pageable pageable);
+
+    @Query(SCREENING_DTO_QUERY)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "256"), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<ScreeningDto> streamScreeningDtos();
+
+    @Query("select new com.epam.training.ticketservice.core.dto.ScreeningSlotDto("
+            + "s.room.id, s.id, s.screeningTime, m.length) "
+            + "from Screening s join s.movie m order by s.room.id, s.screeningTime, s.id")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1024"), @QueryHint(name = HINT_READONLY, value = "true")})
+    Stream<ScreeningSlotDto> streamScreeningSlots();
+}
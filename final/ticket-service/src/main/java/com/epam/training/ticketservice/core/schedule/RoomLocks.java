@@ -0,0 +1,87 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Room;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks that serialize changes to the schedule of one room.
+ *
+ * <p>Checking a new screening against the room's timeline and saving it has to happen under the room's lock,
+ * otherwise two overlapping screenings can both pass the check. Rooms are spread over a fixed number of stripes,
+ * so creations in different rooms rarely wait for each other while memory stays bounded however many rooms exist.
+ * A waiter gives up after the lock timeout instead of queueing behind a stuck import forever.
+ */
+@Component
+public class RoomLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutNanos;
+
+    public RoomLocks(@Value("${ticket-service.schedule.lock-stripes:64}") int stripes,
+                     @Value("${ticket-service.schedule.lock-timeout:5s}") Duration timeout) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("The number of lock stripes must be positive");
+        }
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public Held lock(Room room) throws RoomBusyException {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(room.getId()), stripes.length)];
+        try {
+            if (lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                return lock::unlock;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new RoomBusyException("The schedule of room " + room.getName() + " is busy, please try again");
+    }
+
+    /**
+     * Takes the lock of every room, for changes such as deleting a movie whose screenings may be in any room. The
+     * stripes are taken in order, so two such changes cannot deadlock, and all are released again on failure.
+     */
+    public Held lockAll() throws RoomBusyException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        int locked = 0;
+        try {
+            while (locked < stripes.length
+                    && stripes[locked].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                locked++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int held = locked;
+        Held release = () -> {
+            for (int i = held - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        };
+        if (held == stripes.length) {
+            return release;
+        }
+        release.close();
+        throw new RoomBusyException("The schedule is busy, please try again");
+    }
+
+    /**
+     * A lock that is held until it is closed.
+     */
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,152 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.model.Screening;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+public class RoomTimeline {
+
+    public static final long BREAK_SECONDS = 10 * 60L;
+
+    private final NavigableSet<Slot> slots = new TreeSet<>();
+    private long longestSlot;
+
+    public static RoomTimeline of(Collection<Screening> screenings) {
+        RoomTimeline timeline = new RoomTimeline();
+        for (Screening screening : screenings) {
+            timeline.add(screening);
+        }
+        return timeline;
+    }
+
+    public synchronized Conflict findConflict(long start, long end) {
+        Conflict conflict = Conflict.NONE;
+        Slot from = new Slot(start - longestSlot - BREAK_SECONDS, Long.MAX_VALUE, Long.MAX_VALUE);
+        Slot to = new Slot(end + BREAK_SECONDS, Long.MIN_VALUE, Long.MIN_VALUE);
+        if (from.compareTo(to) >= 0) {
+            return conflict;
+        }
+
+        for (Slot slot : slots.subSet(from, false, to, false)) {
+            Conflict current = slot.conflictWith(start, end);
+            if (current == Conflict.EXTENDING) {
+                return current;
+            } else if (current == Conflict.BREAK) {
+                conflict = current;
+            }
+        }
+        return conflict;
+    }
+
+    /**
+     * Returns the windows of start times, in seconds, at which a screening of the given length fits between
+     * {@code from} and {@code to} and keeps the break to the screenings before and after it.
+     */
+    public synchronized List<Window> freeStarts(long from, long to, int lengthInMinutes) {
+        long length = lengthInMinutes * 60L;
+        long latest = to - length;
+        List<Window> windows = new ArrayList<>();
+        long earliest = from;
+        Slot first = new Slot(from - longestSlot - BREAK_SECONDS, Long.MIN_VALUE, Long.MIN_VALUE);
+        for (Slot slot : slots.tailSet(first, true)) {
+            long lastBefore = slot.start() - BREAK_SECONDS - length;
+            if (lastBefore >= latest) {
+                break;
+            } else if (lastBefore >= earliest) {
+                windows.add(new Window(earliest, lastBefore));
+            }
+            earliest = Math.max(earliest, slot.end() + BREAK_SECONDS);
+        }
+        if (earliest <= latest) {
+            windows.add(new Window(earliest, latest));
+        }
+        return windows;
+    }
+
+    public synchronized void add(Screening screening) {
+        add(Slot.of(screening));
+    }
+
+    public synchronized void add(long start, long end, long screeningId) {
+        add(new Slot(start, end, screeningId));
+    }
+
+    private void add(Slot slot) {
+        slots.add(slot);
+        longestSlot = Math.max(longestSlot, slot.end() - slot.start());
+    }
+
+    /**
+     * Removes the slot the screening occupies, also when the screening was never loaded and so has no id.
+     */
+    public synchronized void remove(Screening screening) {
+        Slot slot = Slot.of(screening);
+        slots.subSet(new Slot(slot.start(), slot.end(), Long.MIN_VALUE), true,
+                new Slot(slot.start(), slot.end(), Long.MAX_VALUE), true).clear();
+    }
+
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    public static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime toDateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    public static long endOf(long start, int lengthInMinutes) {
+        return start + lengthInMinutes * 60L;
+    }
+
+    public record Window(long earliestStart, long latestStart) {
+    }
+
+    public enum Conflict {
+        NONE,
+        EXTENDING,
+        BREAK
+    }
+
+    record Slot(long start, long end, long screeningId) implements Comparable<Slot> {
+
+        static Slot of(Screening screening) {
+            long start = toSeconds(screening.getScreeningTime());
+            return new Slot(start, endOf(start, screening.getMovie().getLength()), screening.getId());
+        }
+
+        Conflict conflictWith(long otherStart, long otherEnd) {
+            boolean isOverlapping = otherStart < end && otherEnd > start;
+            if (isOverlapping || otherStart == start || otherEnd == end) {
+                return Conflict.EXTENDING;
+            }
+
+            boolean isEndingInBreakBefore = otherEnd < start && otherEnd + BREAK_SECONDS > start;
+            boolean isStartingInBreakAfter = otherStart > end && otherStart < end + BREAK_SECONDS;
+            if (isEndingInBreakBefore || isStartingInBreakAfter) {
+                return Conflict.BREAK;
+            }
+            return Conflict.NONE;
+        }
+
+        @Override
+        public int compareTo(Slot other) {
+            int result = Long.compare(start, other.start);
+            if (result == 0) {
+                result = Long.compare(end, other.end);
+            }
+            if (result == 0) {
+                result = Long.compare(screeningId, other.screeningId);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Deletes the screenings of a movie or a room that is being deleted, together with everything kept per screening.
+ *
+ * <p>Runs inside the transaction of the delete. The room locks are taken up front and, like the cached seat maps,
+ * surcharges, timelines and catalog entries, only released once that transaction has completed, so nothing can
+ * reload or book against the rows the transaction is about to remove. Outside a transaction they are released
+ * right away.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScreeningCascade {
+
+    private final ScreeningRepo screeningRepo;
+    private final PriceAttachmentRepo priceAttachmentRepo;
+    private final RoomLocks roomLocks;
+    private final ScreeningSchedule screeningSchedule;
+    private final CatalogLookup catalogLookup;
+    private final SeatMapRegistry seatMapRegistry;
+    private final PriceCatalog priceCatalog;
+
+    /**
+     * Returns the deleted screenings. Screenings with bookings make this fail before anything is deleted.
+     */
+    public List<Screening> deleteScreeningsOf(Movie movie) throws RoomBusyException {
+        RoomLocks.Held lock = roomLocks.lockAll();
+        List<Screening> screenings = List.of();
+        try {
+            screenings = screeningRepo.findScreeningsByMovie(movie);
+            screeningRepo.deleteScreeningsOfMovie(movie);
+            deleteAttachments(PriceAttachment.TargetType.MOVIE, movie.getId(), screenings);
+            return screenings;
+        } finally {
+            List<Screening> deleted = screenings;
+            afterCompletion(lock, () -> {
+                screeningSchedule.evictAll();
+                catalogLookup.evictMovie(movie.getName());
+                evict(deleted);
+            });
+        }
+    }
+
+    /**
+     * Returns the deleted screenings. Screenings with bookings make this fail before anything is deleted.
+     */
+    public List<Screening> deleteScreeningsOf(Room room) throws RoomBusyException {
+        RoomLocks.Held lock = roomLocks.lock(room);
+        List<Screening> screenings = List.of();
+        try {
+            screenings = screeningRepo.findScreeningsByRoom(room);
+            screeningRepo.deleteScreeningsOfRoom(room);
+            deleteAttachments(PriceAttachment.TargetType.ROOM, room.getId(), screenings);
+            return screenings;
+        } finally {
+            List<Screening> deleted = screenings;
+            afterCompletion(lock, () -> {
+                screeningSchedule.evictRoom(room);
+                catalogLookup.evictRoom(room.getName());
+                evict(deleted);
+            });
+        }
+    }
+
+    private void deleteAttachments(PriceAttachment.TargetType targetType, long targetId, List<Screening> screenings) {
+        priceAttachmentRepo.deleteAttachments(targetType, List.of(targetId));
+        if (!screenings.isEmpty()) {
+            priceAttachmentRepo.deleteAttachments(PriceAttachment.TargetType.SCREENING,
+                    screenings.stream().map(Screening::getId).toList());
+        }
+    }
+
+    private void evict(List<Screening> screenings) {
+        for (Screening screening : screenings) {
+            seatMapRegistry.evict(screening);
+            priceCatalog.invalidate(PriceAttachment.TargetType.SCREENING, screening.getId());
+        }
+    }
+
+    private static void afterCompletion(RoomLocks.Held lock, Runnable evictions) {
+        Runnable release = () -> {
+            try {
+                evictions.run();
+            } finally {
+                lock.close();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+}
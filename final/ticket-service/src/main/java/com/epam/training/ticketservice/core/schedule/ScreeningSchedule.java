@@ -0,0 +1,86 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@RequiredArgsConstructor
+public class ScreeningSchedule {
+
+    private final ScreeningRepo screeningRepo;
+    private final Map<Long, RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    public void checkAvailability(Screening screening)
+            throws ExtendingException, BreakStageException {
+        long start = RoomTimeline.toSeconds(screening.getScreeningTime());
+        long end = RoomTimeline.endOf(start, screening.getMovie().getLength());
+        checkConflict(timelineOf(screening.getRoom()).findConflict(start, end));
+    }
+
+    public static void checkConflict(RoomTimeline.Conflict conflict)
+            throws ExtendingException, BreakStageException {
+        if (conflict == RoomTimeline.Conflict.EXTENDING) {
+            throw new ExtendingException("There is an extending screening");
+        } else if (conflict == RoomTimeline.Conflict.BREAK) {
+            throw new BreakStageException(
+                    "This would start in the break period after another screening in this room"
+            );
+        }
+    }
+
+    public RoomTimeline timelineOf(Room room) {
+        return timelines.computeIfAbsent(room.getId(),
+                id -> RoomTimeline.of(screeningRepo.findScreeningsByRoom(room)));
+    }
+
+    public void add(Screening screening) {
+        RoomTimeline timeline = timelines.get(screening.getRoom().getId());
+        if (timeline != null) {
+            timeline.add(screening);
+        }
+        changeListeners.forEach(Runnable::run);
+    }
+
+    public void remove(Screening screening) {
+        RoomTimeline timeline = timelines.get(screening.getRoom().getId());
+        if (timeline != null) {
+            timeline.remove(screening);
+        }
+        changeListeners.forEach(Runnable::run);
+    }
+
+    public void evictRoom(Room room) {
+        timelines.remove(room.getId());
+        changeListeners.forEach(Runnable::run);
+    }
+
+    public void evictAll() {
+        timelines.clear();
+        changeListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Installs timelines that were built elsewhere, e.g. from a snapshot, without notifying the change listeners.
+     */
+    public void restore(Map<Long, RoomTimeline> restored) {
+        timelines.putAll(restored);
+    }
+
+    /**
+     * Registers a callback that runs after every change of the screenings, whether or not the room is loaded.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+}
@@ -0,0 +1,62 @@
+package com.epam.training.ticketservice.core.security;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Salted PBKDF2 hashes of the account passwords, so neither the database nor the operation journal holds a password.
+ *
+ * <p>A hash is stored as {@code pbkdf2-sha256$iterations$salt$hash}, the salt and the hash Base64 encoded. Accounts
+ * saved before passwords were hashed still hold the password itself, which {@link #matches} compares as it is.
+ */
+public final class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256$";
+    private static final int ITERATIONS = 65536;
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PasswordHasher() {
+    }
+
+    public static String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + ITERATIONS + "$" + encoder.encodeToString(salt) + "$"
+                + encoder.encodeToString(derive(password, salt, ITERATIONS));
+    }
+
+    public static boolean isHash(String stored) {
+        return stored != null && stored.startsWith(PREFIX) && stored.split("\\$").length == 4;
+    }
+
+    public static boolean matches(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        } else if (!isHash(stored)) {
+            return MessageDigest.isEqual(password.getBytes(), stored.getBytes());
+        }
+        String[] parts = stored.split("\\$");
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] expected = decoder.decode(parts[3]);
+        return MessageDigest.isEqual(expected, derive(password, decoder.decode(parts[2]), Integer.parseInt(parts[1])));
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not hash the password", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.epam.training.ticketservice.core.service;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.dto.BookingDto;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.HoldDto;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingService {
+
+    BookingDto book(String username, String movie, String room, LocalDateTime screeningTime, List<Seat> seats)
+            throws NotFoundException, SeatTakenException;
+
+    BookingDto bookBest(String username, String movie, String room, LocalDateTime screeningTime, int count)
+            throws NotFoundException, SeatTakenException;
+
+    HoldDto holdSeats(String username, String movie, String room, LocalDateTime screeningTime, List<Seat> seats)
+            throws NotFoundException, SeatTakenException;
+
+    BookingDto confirmHold(String username, long holdId) throws NotFoundException;
+
+    void cancelBooking(String username, String movie, String room, LocalDateTime screeningTime, List<Seat> seats)
+            throws NotFoundException;
+
+    List<BookingRecordDto> bookingHistory(String username);
+}
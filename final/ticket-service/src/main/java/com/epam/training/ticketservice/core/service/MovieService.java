@@ -3,6 +3,7 @@ package com.epam.training.ticketservice.core.service;
 import com.epam.training.ticketservice.core.dto.MovieDto;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
 
 import java.util.List;
 
@@ -15,7 +16,7 @@ public interface MovieService {
             throws NotFoundException;
 
     void deleteMovie(String name)
-            throws NotFoundException;
+            throws NotFoundException, RoomBusyException;
 
     List<MovieDto> movieList();
 }
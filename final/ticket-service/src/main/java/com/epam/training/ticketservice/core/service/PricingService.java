@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.service;
+
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+
+import java.time.LocalDateTime;
+
+public interface PricingService {
+
+    void updateBasePrice(int amount);
+
+    void createPriceComponent(String name, int amount)
+            throws AlreadyExistsException;
+
+    void attachToMovie(String component, String movie)
+            throws NotFoundException;
+
+    void attachToRoom(String component, String room)
+            throws NotFoundException;
+
+    void attachToScreening(String component, String movie, String room, LocalDateTime screeningTime)
+            throws NotFoundException;
+
+    int quote(String movie, String room, LocalDateTime screeningTime, int seatCount)
+            throws NotFoundException;
+}
@@ -0,0 +1,21 @@
+package com.epam.training.ticketservice.core.service;
+
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.dto.OccupancyReportDto;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReportService {
+
+    OccupancyReportDto occupancyReport();
+
+    OccupancyDto roomOccupancy(String room) throws NotFoundException;
+
+    OccupancyDto movieOccupancy(String movie) throws NotFoundException;
+
+    OccupancyDto dayOccupancy(LocalDate day);
+
+    OccupancyDto screeningOccupancy(String room, LocalDateTime screeningTime) throws NotFoundException;
+}
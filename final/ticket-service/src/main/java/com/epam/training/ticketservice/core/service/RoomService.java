@@ -3,6 +3,7 @@ package com.epam.training.ticketservice.core.service;
 import com.epam.training.ticketservice.core.dto.RoomDto;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
 
 import java.util.List;
 
@@ -17,7 +18,7 @@ public interface RoomService {
 
 
     void deleteRoom(String name)
-            throws NotFoundException;
+            throws NotFoundException, RoomBusyException;
 
 
     List<RoomDto> roomList();
@@ -0,0 +1,12 @@
+package com.epam.training.ticketservice.core.service;
+
+import com.epam.training.ticketservice.core.dto.ImportResultDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public interface ScreeningImportService {
+
+    ImportResultDto importScreenings(BufferedReader reader)
+            throws IOException;
+}
@@ -1,20 +1,37 @@
 package com.epam.training.ticketservice.core.service;
 
+import com.epam.training.ticketservice.core.dto.FreeSlotDto;
 import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningFilterDto;
 import com.epam.training.ticketservice.core.exceptions.BreakStageException;
 import com.epam.training.ticketservice.core.exceptions.ExtendingException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ScreeningService {
 
     void createScreening(String movie, String room, LocalDateTime screeningTime)
-            throws ExtendingException, BreakStageException, NotFoundException;
+            throws ExtendingException, BreakStageException, NotFoundException, RoomBusyException;
 
     void deleteScreening(String movie, String room, LocalDateTime screeningTime)
+            throws NotFoundException, RoomBusyException;
+
+    List<FreeSlotDto> findSlots(String movie, LocalDateTime from, LocalDateTime to, String room)
             throws NotFoundException;
 
     List<ScreeningDto> screeningList();
+
+    List<ScreeningDto> screeningList(ScreeningFilterDto filter) throws NotFoundException;
+
+    List<ScreeningDto> screeningPage(int page, int size);
+
+    List<ScreeningDto> screeningPage(ScreeningFilterDto filter, int page, int size) throws NotFoundException;
+
+    void forEachScreening(Consumer<ScreeningDto> action);
+
+    void forEachScreening(ScreeningFilterDto filter, Consumer<ScreeningDto> action) throws NotFoundException;
 }
@@ -1,17 +1,26 @@
 package com.epam.training.ticketservice.core.service;
 
 import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.model.User;
 
 import java.util.Optional;
 
 public interface UserService {
 
-    Optional<UserDto> login(String name, String password);
+    Optional<UserDto> login(String sessionId, String name, String password);
+
+    Optional<UserDto> signIn(String sessionId, String name, String password);
+
+    void signUp(String name, String password)
+            throws AlreadyExistsException;
+
+    void restoreAccount(String name, String passwordHash)
+            throws AlreadyExistsException;
 
     boolean isValidUserData(User user, String password);
 
-    Optional<UserDto> logout();
+    Optional<UserDto> logout(String sessionId);
 
-    Optional<UserDto> describeAccount();
+    Optional<UserDto> describeAccount(String sessionId);
 }
@@ -0,0 +1,198 @@
+package com.epam.training.ticketservice.core.service.impl;
+
+import com.epam.training.ticketservice.core.booking.BookingLedger;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.SeatHolds;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.BookingDto;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.HoldDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.UserRepo;
+import com.epam.training.ticketservice.core.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private static final int JOURNAL_ORDER_STRIPES = 64;
+
+    private final BookingRepo bookingRepo;
+    private final UserRepo userRepo;
+    private final SeatMapRegistry seatMapRegistry;
+    private final CatalogLookup catalogLookup;
+    private final PriceCatalog priceCatalog;
+    private final OperationJournal journal;
+    private final BookingLedger bookingLedger;
+    private final SeatHolds seatHolds;
+    private final OccupancyCounters occupancyCounters;
+    private final DomainEventBus eventBus;
+    // striped by user, a booking and its cancellation always belong to the same user
+    private final Object[] journalOrder = IntStream.range(0, JOURNAL_ORDER_STRIPES)
+            .mapToObj(i -> new Object())
+            .toArray();
+
+    @Override
+    public BookingDto book(String username, String movie, String room, LocalDateTime screeningTime, List<Seat> seats)
+            throws NotFoundException, SeatTakenException {
+        User user = findUser(username);
+        Screening screening = catalogLookup.findScreening(movie, room, screeningTime);
+        SeatMap seatMap = seatMapOf(screening, seats);
+        seatHolds.expireDue();
+        Optional<Seat> takenSeat = seatMap.tryClaim(seats);
+        if (takenSeat.isPresent()) {
+            throw new SeatTakenException("Seat " + takenSeat.get() + " is already taken");
+        }
+
+        return save(user, screening, seatMap, seats);
+    }
+
+    /**
+     * Books the best block of adjacent free seats. Another booking may claim some of those seats between finding
+     * and claiming the block, in which case the next best block is tried.
+     */
+    @Override
+    public BookingDto bookBest(String username, String movie, String room, LocalDateTime screeningTime, int count)
+            throws NotFoundException, SeatTakenException {
+        if (count < 1) {
+            throw new IllegalArgumentException("The number of seats must be positive");
+        }
+        User user = findUser(username);
+        Screening screening = catalogLookup.findScreening(movie, room, screeningTime);
+        SeatMap seatMap = seatMapRegistry.seatMapOf(screening);
+        seatHolds.expireDue();
+        while (true) {
+            Optional<List<Seat>> block = seatMap.findBestBlock(count);
+            if (block.isEmpty()) {
+                throw new SeatTakenException("There are no " + count + " adjacent free seats for this screening");
+            }
+            if (seatMap.tryClaim(block.get()).isEmpty()) {
+                return save(user, screening, seatMap, block.get());
+            }
+        }
+    }
+
+    @Override
+    public HoldDto holdSeats(String username, String movie, String room, LocalDateTime screeningTime,
+                             List<Seat> seats) throws NotFoundException, SeatTakenException {
+        findUser(username);
+        Screening screening = catalogLookup.findScreening(movie, room, screeningTime);
+        seatMapOf(screening, seats);
+        SeatHolds.Hold hold = seatHolds.hold(username, screening, seats);
+        return new HoldDto(hold.id(), hold.seats(), seatHolds.getHoldTime());
+    }
+
+    @Override
+    public BookingDto confirmHold(String username, long holdId) throws NotFoundException {
+        User user = findUser(username);
+        SeatHolds.Hold hold = seatHolds.take(username, holdId)
+                .orElseThrow(() -> new NotFoundException("The hold does not found."));
+        return save(user, hold.screening(), seatMapRegistry.seatMapOf(hold.screening()), hold.seats());
+    }
+
+    @Override
+    public void cancelBooking(String username, String movie, String room, LocalDateTime screeningTime,
+                              List<Seat> seats) throws NotFoundException {
+        Set<Seat> seatSet = Set.copyOf(seats);
+        BookingRecordDto booking = bookingLedger.historyOf(username).stream()
+                .filter(recorded -> recorded.movie().equals(movie) && recorded.room().equals(room)
+                        && recorded.screeningTime().equals(screeningTime)
+                        && Set.copyOf(recorded.seats()).equals(seatSet))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("The booking does not found."));
+        Screening screening = catalogLookup.findScreening(movie, room, screeningTime);
+        OperationJournal.Pending journaled;
+        try (OccupancyCounters.Change change = occupancyCounters.beginChange()) {
+            synchronized (journalOrderOf(username)) {
+                if (bookingRepo.deleteBooking(booking.id()) == 0) {
+                    throw new NotFoundException("The booking does not found.");
+                }
+                // queued before the seats are released, so a booking that takes them again is journaled after this
+                journaled = journal.enqueue(JournalOperation.CANCEL_BOOKING, username, movie, room, screeningTime,
+                        Seat.toInput(booking.seats()));
+            }
+            occupancyCounters.removeBooking(room, screeningTime, booking.seats().size(), booking.price());
+        }
+        seatMapRegistry.seatMapOf(screening).release(booking.seats());
+        bookingLedger.remove(username, booking.id());
+        journaled.await();
+        eventBus.publish(new DomainEvent.BookingCancelled(username, movie, room, screeningTime, booking.seats(),
+                booking.price()));
+    }
+
+    @Override
+    public List<BookingRecordDto> bookingHistory(String username) {
+        return bookingLedger.historyOf(username);
+    }
+
+    private User findUser(String username) throws NotFoundException {
+        return userRepo.findByUsername(username)
+                .orElseThrow(() -> new NotFoundException("The user does not found."));
+    }
+
+    private Object journalOrderOf(String username) {
+        return journalOrder[Math.floorMod(username.hashCode(), journalOrder.length)];
+    }
+
+    private SeatMap seatMapOf(Screening screening, List<Seat> seats) throws NotFoundException {
+        SeatMap seatMap = seatMapRegistry.seatMapOf(screening);
+        for (Seat seat : seats) {
+            if (!seatMap.exists(seat)) {
+                throw new NotFoundException("Seat " + seat + " does not exist in this room");
+            }
+        }
+        return seatMap;
+    }
+
+    /**
+     * Books seats the caller has already claimed in the seat map, releasing them again if the booking fails.
+     *
+     * <p>The booking is saved and queued in the journal under the user's stripe, the same one its cancellation takes,
+     * so a cancellation that found the new row in the database cannot be journaled before the booking itself.
+     */
+    private BookingDto save(User user, Screening screening, SeatMap seatMap, List<Seat> seats) {
+        int price = priceCatalog.priceFor(screening, seats.size());
+        Booking booking = new Booking(user, screening, Seat.toInput(seats), price);
+        OperationJournal.Pending journaled;
+        try (OccupancyCounters.Change change = occupancyCounters.beginChange()) {
+            synchronized (journalOrderOf(user.getUsername())) {
+                try {
+                    bookingRepo.save(booking);
+                } catch (RuntimeException e) {
+                    seatMap.release(seats);
+                    throw e;
+                }
+                journaled = journal.enqueue(JournalOperation.BOOK, user.getUsername(), booking.getMovieName(),
+                        booking.getRoomName(), booking.getScreeningTime(), Seat.toInput(seats));
+            }
+            occupancyCounters.addBooking(booking.getRoomName(), booking.getScreeningTime(), seats.size(), price);
+        }
+        journaled.await();
+        bookingLedger.record(user.getUsername(), new BookingRecordDto(booking.getId(), seats, booking.getMovieName(),
+                booking.getRoomName(), booking.getScreeningTime(), price));
+        eventBus.publish(new DomainEvent.SeatsBooked(user.getUsername(), booking.getMovieName(),
+                booking.getRoomName(), booking.getScreeningTime(), List.copyOf(seats), price));
+        return new BookingDto(seats, price);
+    }
+}
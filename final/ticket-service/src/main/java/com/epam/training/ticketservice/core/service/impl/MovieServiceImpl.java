@@ -1,13 +1,24 @@
 package com.epam.training.ticketservice.core.service.impl;
 
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
 import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
 import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.schedule.ScreeningCascade;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
 import com.epam.training.ticketservice.core.service.MovieService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +29,12 @@ import java.util.stream.Collectors;
 public class MovieServiceImpl implements MovieService {
 
     private final MovieRepo movieRepo;
+    private final ScreeningSchedule screeningSchedule;
+    private final CatalogLookup catalogLookup;
+    private final OperationJournal journal;
+    private final OccupancyCounters occupancyCounters;
+    private final DomainEventBus eventBus;
+    private final ScreeningCascade screeningCascade;
 
     @Override
     public void createMovie(String name, String genre, int length)
@@ -28,6 +45,8 @@ public class MovieServiceImpl implements MovieService {
         } else {
             Movie movie = new Movie(name, genre, length);
             movieRepo.save(movie);
+            journal.append(JournalOperation.CREATE_MOVIE, name, genre, length);
+            eventBus.publish(new DomainEvent.MovieCreated(name, genre, length));
         }
     }
 
@@ -40,20 +59,35 @@ public class MovieServiceImpl implements MovieService {
             movie.setGenre(genre);
             movie.setLength(length);
             movieRepo.save(movie);
+            screeningSchedule.evictAll();
+            catalogLookup.evictMovie(name);
+            journal.append(JournalOperation.UPDATE_MOVIE, name, genre, length);
+            eventBus.publish(new DomainEvent.MovieUpdated(name, genre, length));
         } else {
             throw new NotFoundException("The movie does not found.");
         }
     }
 
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public void deleteMovie(String name)
-            throws NotFoundException {
-        Optional<Movie> existingMovie = movieRepo.findByName(name);
-        if (existingMovie.isPresent()) {
-            Movie movie = existingMovie.get();
-            movieRepo.delete(movie);
-        } else {
-            throw new NotFoundException("The movie does not found.");
+            throws NotFoundException, RoomBusyException {
+        OccupancyCounters.Change change = occupancyCounters.beginChange();
+        try {
+            Movie movie = catalogLookup.findMovie(name);
+            List<Screening> screenings = screeningCascade.deleteScreeningsOf(movie);
+            if (movieRepo.deleteMovie(movie) == 0) {
+                throw new NotFoundException("The movie does not found.");
+            }
+            TransactionCallbacks.afterCommit(() -> {
+                journal.append(JournalOperation.DELETE_MOVIE, name);
+                screenings.forEach(screening -> eventBus.publish(new DomainEvent.ScreeningDeleted(name,
+                        screening.getRoom().getName(), screening.getScreeningTime())));
+                occupancyCounters.removeMovie(name);
+                eventBus.publish(new DomainEvent.MovieDeleted(name));
+            });
+        } finally {
+            TransactionCallbacks.afterCompletion(change::close);
         }
     }
 
@@ -0,0 +1,80 @@
+package com.epam.training.ticketservice.core.service.impl;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.PriceComponent;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import com.epam.training.ticketservice.core.repository.PriceComponentRepo;
+import com.epam.training.ticketservice.core.service.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class PricingServiceImpl implements PricingService {
+
+    private final PriceComponentRepo priceComponentRepo;
+    private final PriceAttachmentRepo priceAttachmentRepo;
+    private final PriceCatalog priceCatalog;
+    private final CatalogLookup catalogLookup;
+    private final OperationJournal journal;
+
+    @Override
+    public void updateBasePrice(int amount) {
+        priceCatalog.updateBasePrice(amount);
+        journal.append(JournalOperation.UPDATE_BASE_PRICE, amount);
+    }
+
+    @Override
+    public void createPriceComponent(String name, int amount) throws AlreadyExistsException {
+        if (priceComponentRepo.findByName(name).isPresent()) {
+            throw new AlreadyExistsException("The price component already exists.");
+        }
+
+        priceComponentRepo.save(new PriceComponent(name, amount));
+        journal.append(JournalOperation.CREATE_PRICE_COMPONENT, name, amount);
+    }
+
+    @Override
+    public void attachToMovie(String component, String movie) throws NotFoundException {
+        attach(component, PriceAttachment.TargetType.MOVIE, catalogLookup.findMovie(movie).getId());
+        journal.append(JournalOperation.ATTACH_PRICE_COMPONENT_TO_MOVIE, component, movie);
+    }
+
+    @Override
+    public void attachToRoom(String component, String room) throws NotFoundException {
+        attach(component, PriceAttachment.TargetType.ROOM, catalogLookup.findRoom(room).getId());
+        journal.append(JournalOperation.ATTACH_PRICE_COMPONENT_TO_ROOM, component, room);
+    }
+
+    @Override
+    public void attachToScreening(String component, String movie, String room, LocalDateTime screeningTime)
+            throws NotFoundException {
+        attach(component, PriceAttachment.TargetType.SCREENING,
+                catalogLookup.findScreening(movie, room, screeningTime).getId());
+        journal.append(JournalOperation.ATTACH_PRICE_COMPONENT_TO_SCREENING, component, movie, room, screeningTime);
+    }
+
+    @Override
+    public int quote(String movie, String room, LocalDateTime screeningTime, int seatCount)
+            throws NotFoundException {
+        return priceCatalog.priceFor(catalogLookup.findScreening(movie, room, screeningTime), seatCount);
+    }
+
+    private void attach(String componentName, PriceAttachment.TargetType targetType, long targetId)
+            throws NotFoundException {
+        PriceComponent component = priceComponentRepo.findByName(componentName)
+                .orElseThrow(() -> new NotFoundException("The price component does not found."));
+        if (!priceAttachmentRepo.existsByComponentAndTargetTypeAndTargetId(component, targetType, targetId)) {
+            priceAttachmentRepo.save(new PriceAttachment(component, targetType, targetId));
+            priceCatalog.invalidate(targetType, targetId);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.training.ticketservice.core.service.impl;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.dto.OccupancyReportDto;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final OccupancyCounters occupancyCounters;
+    private final CatalogLookup catalogLookup;
+
+    @Override
+    public OccupancyReportDto occupancyReport() {
+        return new OccupancyReportDto(occupancyCounters.rooms(), occupancyCounters.movies(),
+                occupancyCounters.days());
+    }
+
+    @Override
+    public OccupancyDto roomOccupancy(String room) throws NotFoundException {
+        catalogLookup.findRoom(room);
+        return occupancyCounters.room(room);
+    }
+
+    @Override
+    public OccupancyDto movieOccupancy(String movie) throws NotFoundException {
+        catalogLookup.findMovie(movie);
+        return occupancyCounters.movie(movie);
+    }
+
+    @Override
+    public OccupancyDto dayOccupancy(LocalDate day) {
+        return occupancyCounters.day(day);
+    }
+
+    @Override
+    public OccupancyDto screeningOccupancy(String room, LocalDateTime screeningTime) throws NotFoundException {
+        return occupancyCounters.screening(room, screeningTime)
+                .orElseThrow(() -> new NotFoundException("The given screening does not found."));
+    }
+}
@@ -1,13 +1,23 @@
 package com.epam.training.ticketservice.core.service.impl;
 
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
 import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
 import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.schedule.ScreeningCascade;
 import com.epam.training.ticketservice.core.service.RoomService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.List;
@@ -19,6 +29,11 @@ import java.util.stream.Collectors;
 public class RoomServiceImpl implements RoomService {
 
     private final RoomRepo roomRepo;
+    private final CatalogLookup catalogLookup;
+    private final OperationJournal journal;
+    private final OccupancyCounters occupancyCounters;
+    private final DomainEventBus eventBus;
+    private final ScreeningCascade screeningCascade;
 
     @Override
     public void createRoom(String name, int row, int col) throws AlreadyExistsException {
@@ -28,6 +43,8 @@ public class RoomServiceImpl implements RoomService {
         } else {
             Room room = new Room(name, row, col);
             roomRepo.save(room);
+            journal.append(JournalOperation.CREATE_ROOM, name, row, col);
+            eventBus.publish(new DomainEvent.RoomCreated(name, row, col));
         }
     }
 
@@ -38,20 +55,37 @@ public class RoomServiceImpl implements RoomService {
             Room room = existingRoom.get();
             room.setRows(row);
             room.setCols(col);
-            roomRepo.save(room);
+            try (OccupancyCounters.Change change = occupancyCounters.beginChange()) {
+                roomRepo.save(room);
+                occupancyCounters.resizeRoom(name, (long) row * col);
+            }
+            catalogLookup.evictRoom(name);
+            journal.append(JournalOperation.UPDATE_ROOM, name, row, col);
+            eventBus.publish(new DomainEvent.RoomUpdated(name, row, col));
         } else {
             throw new NotFoundException("The room does not found.");
         }
     }
 
     @Override
-    public void deleteRoom(String name) throws NotFoundException {
-        Optional<Room> existingRoom = roomRepo.findByName(name);
-        if (existingRoom.isPresent()) {
-            Room room = existingRoom.get();
-            roomRepo.delete(room);
-        } else {
-            throw new NotFoundException("The room does not found.");
+    @Transactional(rollbackFor = Exception.class)
+    public void deleteRoom(String name) throws NotFoundException, RoomBusyException {
+        OccupancyCounters.Change change = occupancyCounters.beginChange();
+        try {
+            Room room = catalogLookup.findRoom(name);
+            List<Screening> screenings = screeningCascade.deleteScreeningsOf(room);
+            if (roomRepo.deleteRoom(room) == 0) {
+                throw new NotFoundException("The room does not found.");
+            }
+            TransactionCallbacks.afterCommit(() -> {
+                journal.append(JournalOperation.DELETE_ROOM, name);
+                screenings.forEach(screening -> eventBus.publish(new DomainEvent.ScreeningDeleted(
+                        screening.getMovie().getName(), name, screening.getScreeningTime())));
+                occupancyCounters.removeRoom(name);
+                eventBus.publish(new DomainEvent.RoomDeleted(name));
+            });
+        } finally {
+            TransactionCallbacks.afterCompletion(change::close);
         }
     }
 
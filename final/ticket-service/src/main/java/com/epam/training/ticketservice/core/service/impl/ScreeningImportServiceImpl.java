@@ -0,0 +1,194 @@
+package com.epam.training.ticketservice.core.service.impl;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.ImportResultDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.journal.JournalEntry;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.RoomTimeline;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import com.epam.training.ticketservice.core.service.ScreeningImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class ScreeningImportServiceImpl implements ScreeningImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
+
+    private final ScreeningRepo screeningRepo;
+    private final CatalogLookup catalogLookup;
+    private final ScreeningSchedule screeningSchedule;
+    private final OperationJournal journal;
+    private final RoomLocks roomLocks;
+    private final OccupancyCounters occupancyCounters;
+    private final DomainEventBus eventBus;
+
+    @Override
+    public ImportResultDto importScreenings(BufferedReader reader) throws IOException {
+        Map<String, Optional<Movie>> movies = new HashMap<>();
+        Map<String, Optional<Room>> rooms = new HashMap<>();
+        Map<Long, List<Row>> rowsByRoom = new HashMap<>();
+        Map<Integer, String> rejectedRows = new TreeMap<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                continue;
+            }
+            try {
+                Row row = parseRow(lineNumber, line, movies, rooms);
+                rowsByRoom.computeIfAbsent(row.room().getId(), id -> new ArrayList<>()).add(row);
+            } catch (NotFoundException | IllegalArgumentException e) {
+                rejectedRows.put(lineNumber, e.getMessage());
+            }
+        }
+
+        int imported = 0;
+        for (List<Row> rows : rowsByRoom.values()) {
+            try (OccupancyCounters.Change change = occupancyCounters.beginChange();
+                 RoomLocks.Held lock = roomLocks.lock(rows.get(0).room())) {
+                imported += importRoom(rows, rejectedRows);
+            } catch (RoomBusyException e) {
+                rows.forEach(row -> rejectedRows.put(row.lineNumber(), e.getMessage()));
+            }
+        }
+
+        return new ImportResultDto(imported, rejectedRows.entrySet().stream()
+                .map(entry -> "Line " + entry.getKey() + ": " + entry.getValue())
+                .toList());
+    }
+
+    private int importRoom(List<Row> rows, Map<Integer, String> rejectedRows) {
+        rows.sort(Comparator.comparing(Row::screeningTime).thenComparingInt(Row::lineNumber));
+        RoomTimeline existing = screeningSchedule.timelineOf(rows.get(0).room());
+        RoomTimeline accepted = new RoomTimeline();
+        List<Screening> batch = new ArrayList<>(Math.min(rows.size(), BATCH_SIZE));
+        int imported = 0;
+
+        for (Row row : rows) {
+            long start = RoomTimeline.toSeconds(row.screeningTime());
+            long end = RoomTimeline.endOf(start, row.movie().getLength());
+            try {
+                ScreeningSchedule.checkConflict(existing.findConflict(start, end));
+                ScreeningSchedule.checkConflict(accepted.findConflict(start, end));
+            } catch (ExtendingException | BreakStageException e) {
+                rejectedRows.put(row.lineNumber(), e.getMessage());
+                continue;
+            }
+
+            Screening screening = new Screening(row.movie(), row.room(), row.screeningTime());
+            accepted.add(screening);
+            batch.add(screening);
+            if (batch.size() == BATCH_SIZE) {
+                imported += saveBatch(batch);
+            }
+        }
+        return imported + saveBatch(batch);
+    }
+
+    private int saveBatch(List<Screening> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            screeningRepo.saveAll(batch).forEach(screening -> {
+                screeningSchedule.add(screening);
+                occupancyCounters.addScreening(screening);
+            });
+            journal.appendAll(batch.stream()
+                    .map(screening -> JournalEntry.of(JournalOperation.CREATE_SCREENING,
+                            screening.getMovie().getName(), screening.getRoom().getName(),
+                            screening.getScreeningTime()))
+                    .toList());
+            batch.forEach(screening -> eventBus.publish(new DomainEvent.ScreeningCreated(
+                    screening.getMovie().getName(), screening.getRoom().getName(), screening.getScreeningTime())));
+            batch.clear();
+        }
+        return size;
+    }
+
+    private Row parseRow(int lineNumber, String line, Map<String, Optional<Movie>> movies,
+                         Map<String, Optional<Room>> rooms) throws NotFoundException {
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("Expected <movie>,<room>,<yyyy-MM-dd HH:mm>");
+        }
+
+        LocalDateTime screeningTime;
+        try {
+            screeningTime = LocalDateTime.parse(fields.get(2), DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid screening time " + fields.get(2));
+        }
+
+        Optional<Movie> movie = movies.computeIfAbsent(fields.get(0), catalogLookup::lookupMovie);
+        Optional<Room> room = rooms.computeIfAbsent(fields.get(1), catalogLookup::lookupRoom);
+        CatalogLookup.checkMovieAndRoomExistence(movie, room);
+        return new Row(lineNumber, movie.get(), room.get(), screeningTime);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.toLowerCase().startsWith("movie,");
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private record Row(int lineNumber, Movie movie, Room room, LocalDateTime screeningTime) {
+    }
+}
@@ -1,134 +1,199 @@
 package com.epam.training.ticketservice.core.service.impl;
 
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.FreeSlotDto;
 import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningFilterDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
 import com.epam.training.ticketservice.core.exceptions.BreakStageException;
 import com.epam.training.ticketservice.core.exceptions.ExtendingException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
-import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
 import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningCriteria;
 import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.RoomTimeline;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
 import com.epam.training.ticketservice.core.service.ScreeningService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ScreeningServiceImpl implements ScreeningService {
 
+    private static final int SAVE_ATTEMPTS = 3;
+
     private final ScreeningRepo screeningRepo;
-    private final MovieRepo movieRepo;
     private final RoomRepo roomRepo;
+    private final CatalogLookup catalogLookup;
+    private final ScreeningSchedule screeningSchedule;
+    private final OperationJournal journal;
+    private final RoomLocks roomLocks;
+    private final OccupancyCounters occupancyCounters;
+    private final DomainEventBus eventBus;
 
     @Override
     public void createScreening(String movie, String room, LocalDateTime screeningTime)
-            throws NotFoundException, ExtendingException, BreakStageException {
-        Optional<Movie> movieOptional = movieRepo.findByName(movie);
-        Optional<Room> roomOptional = roomRepo.findByName(room);
-        checkMovieAndRoomExistence(movieOptional, roomOptional);
-        Screening returnScreening = new Screening(movieOptional.get(), roomOptional.get(), screeningTime);
-        canCreateScreening(returnScreening);
-        screeningRepo.save(returnScreening);
-    }
-
-    private void canCreateScreening(Screening returnScreening)
-            throws ExtendingException, BreakStageException {
-        Optional<Screening> screeningList = screeningRepo.findScreeningByRoom(returnScreening.getRoom());
-
-        if (screeningList.isEmpty()) {
-            return;
+            throws NotFoundException, ExtendingException, BreakStageException, RoomBusyException {
+        Optional<Movie> movieOptional = catalogLookup.lookupMovie(movie);
+        Optional<Room> roomOptional = catalogLookup.lookupRoom(room);
+        CatalogLookup.checkMovieAndRoomExistence(movieOptional, roomOptional);
+        OperationJournal.Pending journaled;
+        try (OccupancyCounters.Change change = occupancyCounters.beginChange();
+             RoomLocks.Held lock = roomLocks.lock(roomOptional.get())) {
+            screeningSchedule.checkAvailability(new Screening(movieOptional.get(), roomOptional.get(), screeningTime));
+            Screening returnScreening = save(movieOptional.get(), roomOptional.get(), screeningTime);
+            screeningSchedule.add(returnScreening);
+            occupancyCounters.addScreening(returnScreening);
+            journaled = journal.enqueue(JournalOperation.CREATE_SCREENING, movie, room, screeningTime);
+            eventBus.publish(new DomainEvent.ScreeningCreated(movie, room, screeningTime));
         }
+        journaled.await();
+    }
 
-        for (Screening iterator : screeningList.stream().toList()) {
-            LocalDateTime screeningStart = returnScreening.getScreeningTime();
-            LocalDateTime screeningEnd = screeningStart.plusMinutes(returnScreening.getMovie().getLength());
-            LocalDateTime screeningBreakPeriod = screeningEnd.plusMinutes(10);
-
-            LocalDateTime iteratorStart = iterator.getScreeningTime();
-            LocalDateTime iteratorEnd = iteratorStart.plusMinutes(iterator.getMovie().getLength());
-            LocalDateTime iteratorBreakPeriod = iteratorEnd.plusMinutes(10);
-
-            boolean isScreeningBetweenIterators = isBetween(screeningStart, iteratorStart, iteratorEnd)
-                    || isBetween(screeningEnd, iteratorStart, iteratorEnd)
-                    || isInside(iteratorStart, iteratorEnd, screeningStart, screeningEnd);
-            boolean isScreeningBeforeIteratorBreak = isBefore(screeningEnd, iteratorStart)
-                    && isAfter(screeningBreakPeriod, iteratorStart);
-            boolean isScreeningAfterIteratorEnd = isAfter(screeningStart, iteratorEnd)
-                    && isBefore(screeningStart, iteratorBreakPeriod);
-
-            if (isScreeningBetweenIterators || isEqual(screeningStart, iteratorStart)
-                    || isEqual(screeningEnd, iteratorEnd)) {
-                throw new ExtendingException("There is an extending screening");
-            } else if (isScreeningBeforeIteratorBreak || isScreeningAfterIteratorEnd) {
-                throw new BreakStageException(
-                        "This would start in the break period after another screening in this room"
-                );
+    @Override
+    public void deleteScreening(String movie, String room, LocalDateTime screeningTime)
+            throws NotFoundException, RoomBusyException {
+        Optional<Movie> movieOptional = catalogLookup.lookupMovie(movie);
+        Optional<Room> roomOptional = catalogLookup.lookupRoom(room);
+        CatalogLookup.checkMovieAndRoomExistence(movieOptional, roomOptional);
+        OperationJournal.Pending journaled;
+        try (OccupancyCounters.Change change = occupancyCounters.beginChange();
+             RoomLocks.Held lock = roomLocks.lock(roomOptional.get())) {
+            if (screeningRepo.deleteScreening(movieOptional.get(), roomOptional.get(), screeningTime) == 0) {
+                throw new NotFoundException("The given screening does not found.");
             }
+            screeningSchedule.remove(new Screening(movieOptional.get(), roomOptional.get(), screeningTime));
+            occupancyCounters.removeScreening(room, screeningTime);
+            journaled = journal.enqueue(JournalOperation.DELETE_SCREENING, movie, room, screeningTime);
+            eventBus.publish(new DomainEvent.ScreeningDeleted(movie, room, screeningTime));
         }
+        journaled.await();
     }
 
-    private static boolean isBetween(LocalDateTime dateTime, LocalDateTime start, LocalDateTime end) {
-        return dateTime.isAfter(start) && dateTime.isBefore(end);
+    @Override
+    public List<FreeSlotDto> findSlots(String movie, LocalDateTime from, LocalDateTime to, String room)
+            throws NotFoundException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The end of the period must be after its start");
+        }
+        Movie foundMovie = catalogLookup.findMovie(movie);
+        List<Room> rooms = room == null ? roomRepo.findAll() : List.of(catalogLookup.findRoom(room));
+        long start = RoomTimeline.toSeconds(from);
+        long end = RoomTimeline.toSeconds(to);
+        return rooms.parallelStream()
+                .flatMap(candidate -> screeningSchedule.timelineOf(candidate)
+                        .freeStarts(start, end, foundMovie.getLength()).stream()
+                        .map(window -> new FreeSlotDto(candidate.getName(),
+                                RoomTimeline.toDateTime(window.earliestStart()),
+                                RoomTimeline.toDateTime(window.latestStart()))))
+                .sorted(Comparator.comparing(FreeSlotDto::room).thenComparing(FreeSlotDto::earliestStart))
+                .toList();
     }
 
-    private static boolean isInside(LocalDateTime start, LocalDateTime end,
-                                    LocalDateTime innerStart, LocalDateTime innerEnd) {
-        return innerStart.isAfter(start) && innerEnd.isBefore(end);
+    @Override
+    public List<ScreeningDto> screeningList() {
+        return screeningRepo.findScreeningDtos();
     }
 
-    private static boolean isEqual(LocalDateTime dateTime1, LocalDateTime dateTime2) {
-        return dateTime1.isEqual(dateTime2);
+    @Override
+    public List<ScreeningDto> screeningList(ScreeningFilterDto filter) throws NotFoundException {
+        if (filter.isEmpty()) {
+            return screeningList();
+        }
+        return screeningRepo.findScreeningDtos(criteriaOf(filter), Pageable.unpaged());
     }
 
-    private static boolean isBefore(LocalDateTime dateTime1, LocalDateTime dateTime2) {
-        return dateTime1.isBefore(dateTime2);
+    @Override
+    public List<ScreeningDto> screeningPage(int page, int size) {
+        checkPage(page, size);
+        return screeningRepo.findScreeningDtos(PageRequest.of(page - 1, size)).getContent();
     }
 
-    private static boolean isAfter(LocalDateTime dateTime1, LocalDateTime dateTime2) {
-        return dateTime1.isAfter(dateTime2);
+    @Override
+    public List<ScreeningDto> screeningPage(ScreeningFilterDto filter, int page, int size) throws NotFoundException {
+        if (filter.isEmpty()) {
+            return screeningPage(page, size);
+        }
+        checkPage(page, size);
+        return screeningRepo.findScreeningDtos(criteriaOf(filter), PageRequest.of(page - 1, size));
     }
 
-    private void checkMovieAndRoomExistence(Optional<Movie> movie, Optional<Room> room) throws NotFoundException {
-        if (movie.isEmpty() && room.isEmpty()) {
-            throw new NotFoundException("The given movie and room do not found");
-        } else if (room.isEmpty()) {
-            throw new NotFoundException("The given room does not found");
-        } else if (movie.isEmpty()) {
-            throw new NotFoundException("The given movie does not found");
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachScreening(Consumer<ScreeningDto> action) {
+        try (Stream<ScreeningDto> screenings = screeningRepo.streamScreeningDtos()) {
+            screenings.forEach(action);
         }
     }
 
     @Override
-    public void deleteScreening(String movie, String room, LocalDateTime screeningTime) throws NotFoundException {
-        Optional<Movie> movieOptional = movieRepo.findByName(movie);
-        Optional<Room> roomOptional = roomRepo.findByName(room);
-        checkMovieAndRoomExistence(movieOptional, roomOptional);
-        if (screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
-                movieOptional.get(),
-                roomOptional.get(),
-                screeningTime
-        ).isPresent()) {
-            Screening screening = screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
-                    movieOptional.get(),
-                    roomOptional.get(),
-                    screeningTime
-            ).get();
-            screeningRepo.delete(screening);
-        } else {
-            throw new NotFoundException("The given screening does not found.");
+    @Transactional(readOnly = true)
+    public void forEachScreening(ScreeningFilterDto filter, Consumer<ScreeningDto> action) throws NotFoundException {
+        if (filter.isEmpty()) {
+            forEachScreening(action);
+            return;
+        }
+        try (Stream<ScreeningDto> screenings = screeningRepo.streamScreeningDtos(criteriaOf(filter))) {
+            screenings.forEach(action);
         }
     }
 
-    @Override
-    public List<ScreeningDto> screeningList() {
-        return screeningRepo.findAll().stream()
-                .map(ScreeningDto::new)
-                .toList();
+    /**
+     * Resolves the names of the filter once, so the query compares the screening's foreign keys instead of joining
+     * on the names.
+     */
+    private ScreeningCriteria criteriaOf(ScreeningFilterDto filter) throws NotFoundException {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new IllegalArgumentException("The end of the period must be after its start");
+        }
+        Movie movie = filter.movie() == null ? null : catalogLookup.findMovie(filter.movie());
+        Room room = filter.room() == null ? null : catalogLookup.findRoom(filter.room());
+        return new ScreeningCriteria(movie, room, filter.genre(), filter.from(), filter.to());
+    }
+
+    private static void checkPage(int page, int size) {
+        if (page < 1 || size < 1) {
+            throw new IllegalArgumentException("Page and size must be positive");
+        }
+    }
+
+    /**
+     * Saves the screening, trying again when the database rejects the insert for a transient reason such as a lock
+     * timeout. The caller holds the room's lock, so no other screening can take the slot in the meantime.
+     *
+     * <p>Every attempt inserts a fresh entity in a transaction of its own. A failed insert may already have assigned
+     * an id to the entity it was given, and saving that instance again would turn the retry into a merge.
+     */
+    private Screening save(Movie movie, Room room, LocalDateTime screeningTime) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return screeningRepo.save(new Screening(movie, room, screeningTime));
+            } catch (TransientDataAccessException e) {
+                if (attempt == SAVE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
     }
 }
@@ -1,9 +1,14 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.repository.UserRepo;
 import com.epam.training.ticketservice.core.service.UserService;
 import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.security.PasswordHasher;
+import com.epam.training.ticketservice.core.session.SessionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,38 +19,67 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepo userRepo;
-    private UserDto loggedInUser = null;
+    private final SessionRegistry sessionRegistry;
+    private final OperationJournal journal;
 
     @Override
-    public Optional<UserDto> login(String name, String password) {
+    public Optional<UserDto> login(String sessionId, String name, String password) {
         Optional<User> userOptional = userRepo.findByUsername(name);
 
         if (userOptional.isPresent() && isValidUserData(userOptional.get(), password)) {
-            loggedInUser = new UserDto(userOptional.get().getUsername(), userOptional.get().getRole());
+            UserDto userDto = new UserDto(userOptional.get().getUsername(), userOptional.get().getRole());
+            sessionRegistry.bind(sessionId, userDto);
 
-            return describeAccount();
+            return Optional.of(userDto);
         }
 
         return Optional.empty();
     }
 
     @Override
-    public boolean isValidUserData(User user, String password) {
-        return user.getPassword().equals(password)
-                && user.getRole().equals(User.Role.ADMIN);
+    public Optional<UserDto> signIn(String sessionId, String name, String password) {
+        Optional<User> userOptional = userRepo.findByUsername(name);
+
+        if (userOptional.isPresent()
+                && PasswordHasher.matches(password, userOptional.get().getPassword())
+                && userOptional.get().getRole().equals(User.Role.USER)) {
+            UserDto userDto = new UserDto(userOptional.get().getUsername(), userOptional.get().getRole());
+            sessionRegistry.bind(sessionId, userDto);
+
+            return Optional.of(userDto);
+        }
+
+        return Optional.empty();
     }
 
     @Override
-    public Optional<UserDto> logout() {
-        Optional<UserDto> userDtoOptional = describeAccount();
+    public void signUp(String name, String password) throws AlreadyExistsException {
+        restoreAccount(name, PasswordHasher.hash(password));
+    }
 
-        loggedInUser = null;
+    @Override
+    public void restoreAccount(String name, String passwordHash) throws AlreadyExistsException {
+        if (userRepo.findByUsername(name).isPresent()) {
+            throw new AlreadyExistsException("The user already exists.");
+        }
+
+        userRepo.save(new User(name, passwordHash, User.Role.USER));
+        journal.append(JournalOperation.SIGN_UP, name, passwordHash);
+    }
 
-        return userDtoOptional;
+    @Override
+    public boolean isValidUserData(User user, String password) {
+        return PasswordHasher.matches(password, user.getPassword())
+                && user.getRole().equals(User.Role.ADMIN);
+    }
+
+    @Override
+    public Optional<UserDto> logout(String sessionId) {
+        return sessionRegistry.remove(sessionId);
     }
 
     @Override
-    public Optional<UserDto> describeAccount() {
-        return Optional.ofNullable(loggedInUser);
+    public Optional<UserDto> describeAccount(String sessionId) {
+        return sessionRegistry.find(sessionId);
     }
 }
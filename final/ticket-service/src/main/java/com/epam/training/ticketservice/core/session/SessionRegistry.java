@@ -0,0 +1,167 @@
+package com.epam.training.ticketservice.core.session;
+
+import com.epam.training.ticketservice.core.dto.UserDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The signed-in user of every session, shell and web API alike.
+ *
+ * <p>Looking a session up takes no lock: the sessions are in a concurrent map and every session records when it was
+ * last used. A session idle for longer than the idle timeout is signed out when it is next looked up. When a new
+ * session takes the registry over its limit, one pass over the sessions drops every idle one and, if that is not
+ * enough, the least recently used ones. Only those passes are serialized, and they only happen on sign-in. Pinned
+ * sessions, such as the interactive shell's, never expire and do not count towards the limit.
+ */
+@Component
+public class SessionRegistry {
+
+    private static final int SESSION_ID_BYTES = 16;
+
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Object eviction = new Object();
+    private final Map<String, UserDto> pinnedSessions = new ConcurrentHashMap<>();
+    private final Set<String> pinnedIds = ConcurrentHashMap.newKeySet();
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public SessionRegistry(@Value("${ticket-service.sessions.max:10000}") int maxSessions,
+                           @Value("${ticket-service.sessions.idle-timeout:30m}") Duration idleTimeout) {
+        this(maxSessions, idleTimeout, System::nanoTime);
+    }
+
+    public SessionRegistry(int maxSessions, Duration idleTimeout, LongSupplier nanoTime) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("The maximum number of sessions must be positive");
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public String newSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Creates the id of a session that stays signed in however long it is idle and however many other sessions there
+     * are.
+     */
+    public String newPinnedSessionId() {
+        String sessionId = newSessionId();
+        pinnedIds.add(sessionId);
+        return sessionId;
+    }
+
+    public void bind(String sessionId, UserDto user) {
+        if (pinnedIds.contains(sessionId)) {
+            pinnedSessions.put(sessionId, user);
+            return;
+        }
+        sessions.put(sessionId, new Session(user, nanoTime.getAsLong()));
+        if (sessions.size() > maxSessions) {
+            evict();
+        }
+    }
+
+    public Optional<UserDto> find(String sessionId) {
+        if (pinnedIds.contains(sessionId)) {
+            return Optional.ofNullable(pinnedSessions.get(sessionId));
+        }
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long now = nanoTime.getAsLong();
+        if (isIdle(session, now)) {
+            sessions.remove(sessionId, session);
+            return Optional.empty();
+        }
+        session.lastAccess = now;
+        return Optional.of(session.user);
+    }
+
+    public Optional<UserDto> remove(String sessionId) {
+        if (pinnedIds.contains(sessionId)) {
+            return Optional.ofNullable(pinnedSessions.remove(sessionId));
+        }
+        Session session = sessions.remove(sessionId);
+        if (session == null || isIdle(session, nanoTime.getAsLong())) {
+            return Optional.empty();
+        }
+        return Optional.of(session.user);
+    }
+
+    public void clear() {
+        pinnedSessions.clear();
+        sessions.clear();
+    }
+
+    public int size() {
+        return sessions.size() + pinnedSessions.size();
+    }
+
+    private boolean isIdle(Session session, long now) {
+        return now - session.lastAccess >= idleTimeoutNanos;
+    }
+
+    /**
+     * Drops the idle sessions and then the least recently used ones until the registry is back within its limit.
+     */
+    private void evict() {
+        synchronized (eviction) {
+            int excess = sessions.size() - maxSessions;
+            if (excess <= 0) {
+                return;
+            }
+            long now = nanoTime.getAsLong();
+            // the most recently used of the oldest sessions found so far on top
+            PriorityQueue<Map.Entry<String, Session>> oldest = new PriorityQueue<>(
+                    Comparator.comparingLong((Map.Entry<String, Session> entry) -> entry.getValue().lastAccess)
+                            .reversed());
+            for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+                if (isIdle(entry.getValue(), now)) {
+                    sessions.remove(entry.getKey(), entry.getValue());
+                } else {
+                    oldest.add(entry);
+                    if (oldest.size() > excess) {
+                        oldest.poll();
+                    }
+                }
+            }
+            while (sessions.size() > maxSessions && !oldest.isEmpty()) {
+                Map.Entry<String, Session> entry = oldest.poll();
+                sessions.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static final class Session {
+
+        private final UserDto user;
+        // written by every lookup without a lock, a racing eviction may see a slightly older value
+        private volatile long lastAccess;
+
+        private Session(UserDto user, long lastAccess) {
+            this.user = user;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
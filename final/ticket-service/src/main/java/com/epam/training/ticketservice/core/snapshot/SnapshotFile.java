@@ -0,0 +1,184 @@
+package com.epam.training.ticketservice.core.snapshot;
+
+import com.epam.training.ticketservice.core.dto.ScreeningSlotDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.schedule.RoomTimeline;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary image of the movies, the rooms and the room timelines.
+ *
+ * <p>The layout is a header ({@code magic, version, created at}), the movies ({@code count, then id, name, genre,
+ * length}), the rooms ({@code count, then id, name, rows, cols}), the screening slots ordered by room
+ * ({@code room id, start, end, screening id}) closed by a {@link #END_OF_SLOTS} room id, and a CRC32 of everything
+ * before it. All numbers are big-endian and strings are UTF-8 prefixed with their length, or -1 for null. Files
+ * are written next to the target and moved into place, so a reader sees either the previous snapshot or the complete
+ * new one.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x54534e50;
+    private static final int VERSION = 1;
+    private static final long END_OF_SLOTS = -1;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+
+    private SnapshotFile() {
+    }
+
+    public static Contents write(Path path, Collection<Movie> movies, Collection<Room> rooms,
+                                 Iterator<ScreeningSlotDto> slots) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        int screenings = 0;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024), crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+
+            out.writeInt(movies.size());
+            for (Movie movie : movies) {
+                out.writeLong(movie.getId());
+                writeString(out, movie.getName());
+                writeString(out, movie.getGenre());
+                out.writeInt(movie.getLength());
+            }
+
+            out.writeInt(rooms.size());
+            for (Room room : rooms) {
+                out.writeLong(room.getId());
+                writeString(out, room.getName());
+                out.writeInt(room.getRows());
+                out.writeInt(room.getCols());
+            }
+
+            while (slots.hasNext()) {
+                ScreeningSlotDto slot = slots.next();
+                long start = RoomTimeline.toSeconds(slot.screeningTime());
+                out.writeLong(slot.roomId());
+                out.writeLong(start);
+                out.writeLong(RoomTimeline.endOf(start, slot.length()));
+                out.writeLong(slot.screeningId());
+                screenings++;
+            }
+            out.writeLong(END_OF_SLOTS);
+
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Contents(List.copyOf(movies), List.copyOf(rooms), Map.of(), screenings);
+    }
+
+    public static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 2 * Integer.BYTES + Long.BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("The snapshot has an invalid size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodySize = (int) size - TRAILER_BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, bodySize));
+            if ((int) crc.getValue() != buffer.getInt(bodySize)) {
+                throw new IOException("The snapshot checksum does not match");
+            }
+            buffer.limit(bodySize);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("The snapshot has an unknown format");
+            }
+            buffer.getLong();
+            return readBody(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("The snapshot is truncated", e);
+        }
+    }
+
+    private static Contents readBody(ByteBuffer buffer) {
+        int movieCount = buffer.getInt();
+        List<Movie> movies = new ArrayList<>(movieCount);
+        for (int i = 0; i < movieCount; i++) {
+            long id = buffer.getLong();
+            Movie movie = new Movie(readString(buffer), readString(buffer), buffer.getInt());
+            movie.setId(id);
+            movies.add(movie);
+        }
+
+        int roomCount = buffer.getInt();
+        List<Room> rooms = new ArrayList<>(roomCount);
+        Map<Long, RoomTimeline> timelines = new HashMap<>();
+        for (int i = 0; i < roomCount; i++) {
+            long id = buffer.getLong();
+            Room room = new Room(readString(buffer), buffer.getInt(), buffer.getInt());
+            room.setId(id);
+            rooms.add(room);
+            timelines.put(id, new RoomTimeline());
+        }
+
+        int screenings = 0;
+        long roomId;
+        RoomTimeline timeline = null;
+        long timelineRoomId = END_OF_SLOTS;
+        while ((roomId = buffer.getLong()) != END_OF_SLOTS) {
+            if (roomId != timelineRoomId) {
+                timeline = timelines.computeIfAbsent(roomId, id -> new RoomTimeline());
+                timelineRoomId = roomId;
+            }
+            timeline.add(buffer.getLong(), buffer.getLong(), buffer.getLong());
+            screenings++;
+        }
+        return new Contents(movies, rooms, timelines, screenings);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * What a snapshot holds. The timelines are only filled in by {@link #read(Path)}.
+     */
+    public record Contents(List<Movie> movies, List<Room> rooms, Map<Long, RoomTimeline> timelines,
+                           int screenings) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.epam.training.ticketservice.core.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the snapshot around every write of the movies, rooms and screenings.
+ *
+ * <p>The snapshot is deleted before the write reaches the database, so a crash right after the commit cannot leave a
+ * stale snapshot behind. The write counts as in flight until its transaction completes, which is the enclosing
+ * service transaction when there is one, and a snapshot written in the meantime is thrown away.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SnapshotInvalidationAspect {
+
+    // looked up on first use, the snapshot manager itself depends on the repositories this aspect advises
+    private final ObjectProvider<SnapshotManager> snapshotManagerProvider;
+
+    @Around("(target(com.epam.training.ticketservice.core.repository.MovieRepo)"
+            + " || target(com.epam.training.ticketservice.core.repository.RoomRepo)"
+            + " || target(com.epam.training.ticketservice.core.repository.ScreeningRepo))"
+            + " && (execution(* save*(..)) || execution(* delete*(..)))")
+    public Object invalidateAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        SnapshotManager snapshotManager = snapshotManagerProvider.getObject();
+        snapshotManager.beginChange();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshotManager.endChange();
+                }
+            });
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            snapshotManager.endChange();
+        }
+    }
+}
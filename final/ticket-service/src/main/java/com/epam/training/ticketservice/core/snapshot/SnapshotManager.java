@@ -0,0 +1,211 @@
+package com.epam.training.ticketservice.core.snapshot;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.ScreeningSlotDto;
+import com.epam.training.ticketservice.core.dto.SnapshotDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link SnapshotFile} of the catalog and the schedule next to the durable database.
+ *
+ * <p>On startup the snapshot is mapped and loaded into {@link CatalogLookup} and {@link ScreeningSchedule}, so a
+ * restarted node does not have to query every room's screenings before it can check a new one. The snapshot is only
+ * trusted while nothing has changed since it was written: {@link SnapshotInvalidationAspect} deletes it before the
+ * first change reaches the database, and the periodic task writes a fresh one once the change is committed. A crash
+ * between the two costs a slower start, never a stale schedule.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SnapshotManager implements ApplicationRunner {
+
+    private final MovieRepo movieRepo;
+    private final RoomRepo roomRepo;
+    private final ScreeningRepo screeningRepo;
+    private final CatalogLookup catalogLookup;
+    private final ScreeningSchedule screeningSchedule;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration interval;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicInteger changesInFlight = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    public SnapshotManager(MovieRepo movieRepo, RoomRepo roomRepo, ScreeningRepo screeningRepo,
+                           CatalogLookup catalogLookup, ScreeningSchedule screeningSchedule,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${ticket-service.snapshot.enabled:false}") boolean enabled,
+                           @Value("${ticket-service.snapshot.path:data/catalog.snapshot}") Path path,
+                           @Value("${ticket-service.snapshot.interval:5m}") Duration interval) {
+        this.movieRepo = movieRepo;
+        this.roomRepo = roomRepo;
+        this.screeningRepo = screeningRepo;
+        this.catalogLookup = catalogLookup;
+        this.screeningSchedule = screeningSchedule;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.path = path;
+        this.interval = interval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        catalogLookup.addChangeListener(this::markDirty);
+        screeningSchedule.addChangeListener(this::markDirty);
+        restore();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::snapshotIfDirty,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized SnapshotDto snapshot() throws IOException {
+        final long start = System.nanoTime();
+        dirty.set(false);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        SnapshotFile.Contents contents;
+        try {
+            contents = readOnlyTransaction.execute(status -> {
+                List<Movie> movies = movieRepo.findAll();
+                List<Room> rooms = roomRepo.findAll();
+                rooms.sort(Comparator.comparingLong(Room::getId));
+                try (Stream<ScreeningSlotDto> slots = screeningRepo.streamScreeningSlots()) {
+                    return SnapshotFile.write(path, movies, rooms, slots.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            dirty.set(true);
+            throw e.getCause();
+        }
+        if (dirty.get() || changesInFlight.get() > 0) {
+            // something changed while the snapshot was being written, or a change may not be committed yet
+            Files.deleteIfExists(path);
+        }
+        return new SnapshotDto(contents.movies().size(), contents.rooms().size(), contents.screenings(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Deletes the snapshot before the catalog or the schedule is written to the database. Every call must be followed
+     * by {@link #endChange()} once the write is committed or rolled back.
+     */
+    public void beginChange() {
+        if (enabled) {
+            changesInFlight.incrementAndGet();
+            markDirty();
+        }
+    }
+
+    public void endChange() {
+        if (enabled) {
+            markDirty();
+            changesInFlight.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            snapshotIfDirty();
+        }
+    }
+
+    private void restore() {
+        final long start = System.nanoTime();
+        final long changesBefore = changes.get();
+        SnapshotFile.Contents contents;
+        try {
+            contents = SnapshotFile.read(path);
+        } catch (NoSuchFileException e) {
+            log.info("No snapshot at {}, the schedule is loaded from the database", path);
+            return;
+        } catch (IOException e) {
+            log.warn("Ignoring the snapshot at {}: {}", path, e.getMessage());
+            return;
+        }
+        catalogLookup.prime(contents.movies(), contents.rooms());
+        screeningSchedule.restore(contents.timelines());
+        dirty.set(false);
+        if (changes.get() != changesBefore) {
+            // the web API is already up, so a request may have changed the data while the snapshot was loaded
+            markDirty();
+            catalogLookup.evictAll();
+            screeningSchedule.evictAll();
+            return;
+        }
+        log.info("Restored {} movies, {} rooms and {} screenings from {} in {} ms",
+                contents.movies().size(), contents.rooms().size(), contents.screenings(), path,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void markDirty() {
+        changes.incrementAndGet();
+        if (dirty.compareAndSet(false, true)) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.error("Could not delete the outdated snapshot at {}", path, e);
+            }
+        }
+    }
+
+    private void snapshotIfDirty() {
+        if (!dirty.get()) {
+            return;
+        }
+        try {
+            SnapshotDto snapshot = snapshot();
+            log.info("Wrote a snapshot of {} screenings in {} ms", snapshot.screenings(), snapshot.millis());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the snapshot to {}", path, e);
+        }
+    }
+}
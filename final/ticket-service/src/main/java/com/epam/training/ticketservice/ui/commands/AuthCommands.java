@@ -1,45 +1,92 @@
 package com.epam.training.ticketservice.ui.commands;
 
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
 import com.epam.training.ticketservice.core.dto.UserDto;
 import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.BookingService;
 import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.session.ShellSession;
 import lombok.AllArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
 
 @ShellComponent
 @AllArgsConstructor
 public class AuthCommands {
 
     private final UserService userService;
+    private final ShellSession shellSession;
+    private final BookingService bookingService;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
 
     @ShellMethod(key = "sign out", value = "User logout")
     public String logout() {
-        return userService.logout()
+        return userService.logout(shellSession.getId())
                 .map(userDto -> userDto.username() + " successfully logged out.")
                 .orElse("There is no user logged in.");
     }
 
     @ShellMethod(key = "sign in privileged", value = "User login")
     public String login(String username, String password) {
-        return userService.login(username, password)
+        return userService.login(shellSession.getId(), username, password)
                 .map(userDto -> userDto.username() + " successfully signed in")
                 .orElse("Login failed due to incorrect credentials");
     }
 
+    @ShellMethod(key = "sign in", value = "User login")
+    public String signIn(String username, String password) {
+        return userService.signIn(shellSession.getId(), username, password)
+                .map(userDto -> userDto.username() + " successfully signed in")
+                .orElse("Login failed due to incorrect credentials");
+    }
+
+    @ShellMethod(key = "sign up", value = "User registration")
+    public String signUp(String username, String password) {
+        try {
+            userService.signUp(username, password);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Signed up with account '" + username + "'";
+    }
+
     @ShellMethod(key = "describe account", value = "Get user information")
     public String print() {
-        Optional<UserDto> userDtoOptional = userService.describeAccount();
+        Optional<UserDto> userDtoOptional = userService.describeAccount(shellSession.getId());
         if (userDtoOptional.isPresent()) {
             if (userDtoOptional.get().role().equals(User.Role.ADMIN)) {
                 return "Signed in with privileged account '" + userDtoOptional.get().username() + "'";
             }
 
-            return "Signed in with user '" + userDtoOptional.get().username() + "'";
+            return "Signed in with account '" + userDtoOptional.get().username() + "'\n"
+                    + bookingHistory(userDtoOptional.get().username());
         }
 
         return "You are not signed in";
     }
+
+    private String bookingHistory(String username) {
+        List<BookingRecordDto> bookings = bookingService.bookingHistory(username);
+        if (bookings.isEmpty()) {
+            return "You have not booked any tickets yet";
+        }
+
+        StringJoiner joiner = new StringJoiner("\n");
+        joiner.add("Your previous bookings are");
+        for (BookingRecordDto booking : bookings) {
+            joiner.add("Seats " + Seat.format(booking.seats()) + " on " + booking.movie() + " in room "
+                    + booking.room() + " starting at " + booking.screeningTime().format(DATE_TIME_FORMATTER)
+                    + " for " + booking.price() + " HUF");
+        }
+        return joiner.toString();
+    }
 }
@@ -0,0 +1,144 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.dto.BookingDto;
+import com.epam.training.ticketservice.core.dto.HoldDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.BookingService;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.session.ShellSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.Availability;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellMethodAvailability;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class BookingCommands {
+
+    private final BookingService bookingService;
+    private final UserService userService;
+    private final ShellSession shellSession;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "book", value = "Books seats for a screening")
+    public String book(String movie, String room, String screeningTime, String seats) {
+        BookingDto bookingDto;
+        try {
+            bookingDto = bookingService.book(
+                    userService.describeAccount(shellSession.getId()).get().username(),
+                    movie,
+                    room,
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER),
+                    Seat.parseList(seats)
+            );
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Seats booked: " + Seat.format(bookingDto.seats())
+                + "; the price for this booking is " + bookingDto.price() + " HUF";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "cancel booking", value = "Cancels a booking of the given seats")
+    public String cancelBooking(String movie, String room, String screeningTime, String seats) {
+        List<Seat> seatList;
+        try {
+            seatList = Seat.parseList(seats);
+            bookingService.cancelBooking(
+                    userService.describeAccount(shellSession.getId()).get().username(),
+                    movie,
+                    room,
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER),
+                    seatList
+            );
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Booking of seats " + Seat.format(seatList) + " is cancelled";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "book best", value = "Books the best block of adjacent free seats for a screening")
+    public String bookBest(String movie, String room, String screeningTime, int count) {
+        BookingDto bookingDto;
+        try {
+            bookingDto = bookingService.bookBest(
+                    userService.describeAccount(shellSession.getId()).get().username(),
+                    movie,
+                    room,
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER),
+                    count
+            );
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Seats booked: " + Seat.format(bookingDto.seats())
+                + "; the price for this booking is " + bookingDto.price() + " HUF";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "hold seats", value = "Holds seats for a screening until the hold is confirmed or expires")
+    public String holdSeats(String movie, String room, String screeningTime, String seats) {
+        HoldDto holdDto;
+        try {
+            holdDto = bookingService.holdSeats(
+                    userService.describeAccount(shellSession.getId()).get().username(),
+                    movie,
+                    room,
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER),
+                    Seat.parseList(seats)
+            );
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Seats held: " + Seat.format(holdDto.seats())
+                + "; confirm hold " + holdDto.id() + " within " + format(holdDto.holdTime());
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "confirm hold", value = "Books the seats of a hold")
+    public String confirmHold(long id) {
+        BookingDto bookingDto;
+        try {
+            bookingDto = bookingService.confirmHold(
+                    userService.describeAccount(shellSession.getId()).get().username(), id);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "Seats booked: " + Seat.format(bookingDto.seats())
+                + "; the price for this booking is " + bookingDto.price() + " HUF";
+    }
+
+    private static String format(Duration duration) {
+        if (duration.toSecondsPart() == 0 && duration.toMinutes() > 0) {
+            return duration.toMinutes() + " minutes";
+        }
+        return duration.toSeconds() + " seconds";
+    }
+
+    public Availability isAvailable() {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.USER)) {
+            return Availability.available();
+        }
+
+        return Availability.unavailable("You are not signed in");
+    }
+}
@@ -1,9 +1,12 @@
 package com.epam.training.ticketservice.ui.commands;
 
 import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.service.MovieService;
 import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.render.ListRenderer;
+import com.epam.training.ticketservice.ui.session.ShellSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.Availability;
 import org.springframework.shell.standard.ShellComponent;
@@ -11,7 +14,7 @@ import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellMethodAvailability;
 
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Optional;
 
 @ShellComponent
 @RequiredArgsConstructor
@@ -19,6 +22,8 @@ public class MovieCommands {
 
     private final MovieService movieService;
     private final UserService userService;
+    private final ShellSession shellSession;
+    private final ListRenderer listRenderer;
 
     @ShellMethodAvailability("isAvailable")
     @ShellMethod(key = "create movie", value = "Creates a movie")
@@ -64,20 +69,13 @@ public class MovieCommands {
             return "There are no movies at the moment";
         }
 
-        StringBuilder builder = new StringBuilder();
-        StringJoiner joiner = new StringJoiner("\n");
-
-        for (MovieDto movieDto : movieDtoList) {
-            joiner.add(movieDto.toString());
-        }
-
-        return builder.append(joiner).toString();
+        listRenderer.render(movieDtoList::forEach, MovieDto::appendTo);
+        return null;
     }
 
     public Availability isAvailable() {
-        if (userService.describeAccount().isPresent()
-                && userService.describeAccount().get().role()
-                .equals(User.Role.ADMIN)) {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
             return Availability.available();
         }
 
@@ -0,0 +1,106 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.PricingService;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.session.ShellSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.Availability;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellMethodAvailability;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class PricingCommands {
+
+    private final PricingService pricingService;
+    private final UserService userService;
+    private final ShellSession shellSession;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "update base price", value = "Updates the base price of a seat")
+    public String updateBasePrice(int amount) {
+        pricingService.updateBasePrice(amount);
+        return "The base price is updated";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "create price component", value = "Creates a price component")
+    public String createPriceComponent(String name, int amount) {
+        try {
+            pricingService.createPriceComponent(name, amount);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "The price component is created";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "attach price component to movie", value = "Attaches a price component to a movie")
+    public String attachToMovie(String component, String movie) {
+        try {
+            pricingService.attachToMovie(component, movie);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "The price component is attached";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "attach price component to room", value = "Attaches a price component to a room")
+    public String attachToRoom(String component, String room) {
+        try {
+            pricingService.attachToRoom(component, room);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "The price component is attached";
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "attach price component to screening", value = "Attaches a price component to a screening")
+    public String attachToScreening(String component, String movie, String room, String screeningTime) {
+        try {
+            pricingService.attachToScreening(component, movie, room,
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER));
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        return "The price component is attached";
+    }
+
+    @ShellMethod(key = "show price for", value = "Shows the price of a booking")
+    public String showPrice(String movie, String room, String screeningTime, String seats) {
+        try {
+            return "The price for this booking would be "
+                    + pricingService.quote(movie, room, LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER),
+                    Seat.parseList(seats).size())
+                    + " HUF";
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    public Availability isAvailable() {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
+            return Availability.available();
+        }
+
+        return Availability.unavailable("You are not authorized");
+    }
+}
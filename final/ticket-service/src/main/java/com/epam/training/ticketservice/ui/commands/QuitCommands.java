@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import org.springframework.shell.ExitRequest;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.commands.Quit;
+
+/**
+ * Replaces the built-in {@code exit} command to remember that the user asked to quit, so the application can tell it
+ * apart from the shell's input running out while the web API should keep serving.
+ */
+@ShellComponent
+public class QuitCommands implements Quit.Command {
+
+    private volatile boolean requested;
+
+    @ShellMethod(key = {"quit", "exit"}, value = "Exit the shell.", group = "Built-In Commands")
+    public void quit() {
+        requested = true;
+        throw new ExitRequest();
+    }
+
+    public boolean isRequested() {
+        return requested;
+    }
+}
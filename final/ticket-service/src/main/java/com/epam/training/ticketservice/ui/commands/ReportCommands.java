@@ -0,0 +1,87 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.dto.OccupancyReportDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.ReportService;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.session.ShellSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.Availability;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellMethodAvailability;
+import org.springframework.shell.standard.ShellOption;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class ReportCommands {
+
+    private final ReportService reportService;
+    private final UserService userService;
+    private final ShellSession shellSession;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "occupancy report", value = "Shows the booked seats and the revenue of rooms, movies and days")
+    public String occupancyReport(@ShellOption(defaultValue = ShellOption.NULL) String room,
+                                  @ShellOption(defaultValue = ShellOption.NULL) String movie,
+                                  @ShellOption(defaultValue = ShellOption.NULL) String day,
+                                  @ShellOption(defaultValue = ShellOption.NULL) String at) {
+        StringJoiner joiner = new StringJoiner("\n");
+        try {
+            if (at != null) {
+                if (room == null) {
+                    return "The room of the screening must be given";
+                }
+                joiner.add(format("Screening in room " + room + " at " + at,
+                        reportService.screeningOccupancy(room, LocalDateTime.parse(at, DATE_TIME_FORMATTER)), false));
+            } else if (room != null) {
+                joiner.add(format("Room " + room, reportService.roomOccupancy(room), true));
+            }
+            if (movie != null) {
+                joiner.add(format("Movie " + movie, reportService.movieOccupancy(movie), true));
+            }
+            if (day != null) {
+                joiner.add(format("Day " + day, reportService.dayOccupancy(LocalDate.parse(day)), true));
+            }
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+        if (joiner.length() > 0) {
+            return joiner.toString();
+        }
+
+        OccupancyReportDto report = reportService.occupancyReport();
+        report.rooms().forEach(occupancy -> joiner.add(format("Room " + occupancy.name(), occupancy, true)));
+        report.movies().forEach(occupancy -> joiner.add(format("Movie " + occupancy.name(), occupancy, true)));
+        report.days().forEach(occupancy -> joiner.add(format("Day " + occupancy.name(), occupancy, true)));
+        return joiner.length() > 0 ? joiner.toString() : "There are no screenings to report on";
+    }
+
+    private static String format(String label, OccupancyDto occupancy, boolean withScreenings) {
+        return label + ": " + occupancy.bookedSeats() + " of " + occupancy.capacity() + " seats booked ("
+                + String.format(Locale.ROOT, "%.1f", occupancy.percentage()) + "%)"
+                + (withScreenings ? " in " + occupancy.screenings() + " screenings" : "")
+                + ", " + occupancy.revenue() + " HUF revenue";
+    }
+
+    public Availability isAvailable() {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
+            return Availability.available();
+        }
+
+        return Availability.unavailable("You are not authorized");
+    }
+}
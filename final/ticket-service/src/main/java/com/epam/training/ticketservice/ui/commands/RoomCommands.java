@@ -1,9 +1,12 @@
 package com.epam.training.ticketservice.ui.commands;
 
 import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.service.RoomService;
 import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.render.ListRenderer;
+import com.epam.training.ticketservice.ui.session.ShellSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.Availability;
 import org.springframework.shell.standard.ShellComponent;
@@ -11,7 +14,7 @@ import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellMethodAvailability;
 
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Optional;
 
 @ShellComponent
 @RequiredArgsConstructor
@@ -19,6 +22,8 @@ public class RoomCommands {
 
     private final RoomService roomService;
     private final UserService userService;
+    private final ShellSession shellSession;
+    private final ListRenderer listRenderer;
 
     @ShellMethodAvailability("isAvailable")
     @ShellMethod(key = "create room", value = "Creates a room")
@@ -60,23 +65,16 @@ public class RoomCommands {
     public String listRooms() {
         List<RoomDto> roomDtoList = roomService.roomList();
         if (!roomDtoList.isEmpty()) {
-            StringBuilder builder = new StringBuilder();
-            StringJoiner joiner = new StringJoiner("\n");
-
-            for (RoomDto roomDto : roomDtoList) {
-                joiner.add(roomDto.toString());
-            }
-
-            return builder.append(joiner).toString();
+            listRenderer.render(roomDtoList::forEach, RoomDto::appendTo);
+            return null;
         }
 
         return "There are no rooms at the moment";
     }
 
     public Availability isAvailable() {
-        if (userService.describeAccount().isPresent()
-                && userService.describeAccount().get().role()
-                .equals(User.Role.ADMIN)) {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
             return Availability.available();
         }
 
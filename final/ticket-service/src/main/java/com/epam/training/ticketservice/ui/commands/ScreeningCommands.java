@@ -1,18 +1,32 @@
 package com.epam.training.ticketservice.ui.commands;
 
+import com.epam.training.ticketservice.core.dto.FreeSlotDto;
+import com.epam.training.ticketservice.core.dto.ImportResultDto;
 import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningFilterDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
 import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.ScreeningImportService;
 import com.epam.training.ticketservice.core.service.ScreeningService;
 import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.render.ListRenderer;
+import com.epam.training.ticketservice.ui.session.ShellSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.Availability;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellMethodAvailability;
+import org.springframework.shell.standard.ShellOption;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 @ShellComponent
@@ -21,15 +35,18 @@ public class ScreeningCommands {
 
     private final ScreeningService screeningService;
     private final UserService userService;
+    private final ShellSession shellSession;
+    private final ScreeningImportService screeningImportService;
+    private final ListRenderer listRenderer;
 
-    DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
 
     @ShellMethodAvailability("isAvailable")
     @ShellMethod(key = "create screening", value = "Creates a screening")
     public String createScreening(String movie, String room, String screeningTime) {
         try {
             screeningService.createScreening(movie, room,
-                    LocalDateTime.parse(screeningTime, dateTimeFormatter));
+                    LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER));
         } catch (Exception e) {
             return e.getMessage();
         }
@@ -41,7 +58,7 @@ public class ScreeningCommands {
     @ShellMethod(key = "delete screening", value = "Deletes a screening")
     public String deleteScreening(String movie, String room, String screeningTime) {
         try {
-            screeningService.deleteScreening(movie, room, LocalDateTime.parse(screeningTime, dateTimeFormatter));
+            screeningService.deleteScreening(movie, room, LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER));
         } catch (Exception e) {
             return e.getMessage();
         }
@@ -49,27 +66,97 @@ public class ScreeningCommands {
         return "Screening is deleted";
     }
 
-    @ShellMethod(key = "list screenings", value = "Lists all screenings")
-    public String listScreenings() {
-        List<ScreeningDto> screeningDtoList = screeningService.screeningList();
-        if (!screeningDtoList.isEmpty()) {
-            StringBuilder builder = new StringBuilder();
-            StringJoiner joiner = new StringJoiner("\n");
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "import screenings", value = "Imports screenings from a CSV file")
+    public String importScreenings(String file) {
+        ImportResultDto result;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+            result = screeningImportService.importScreenings(reader);
+        } catch (IOException e) {
+            return "Could not read " + file;
+        }
+
+        StringJoiner joiner = new StringJoiner("\n");
+        joiner.add("Imported " + result.imported() + " screenings, rejected "
+                + result.rejectedRows().size() + " rows");
+        for (String rejectedRow : result.rejectedRows()) {
+            joiner.add(rejectedRow);
+        }
+
+        return joiner.toString();
+    }
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "find slots", value = "Lists the start times at which a movie fits into the rooms' schedules")
+    public String findSlots(String movie, String from, String to,
+                            @ShellOption(defaultValue = ShellOption.NULL) String room) {
+        List<FreeSlotDto> slots;
+        try {
+            slots = screeningService.findSlots(movie, LocalDateTime.parse(from, DATE_TIME_FORMATTER),
+                    LocalDateTime.parse(to, DATE_TIME_FORMATTER), room);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+
+        if (slots.isEmpty()) {
+            return "There are no free slots for " + movie + " in this period";
+        }
+        StringJoiner joiner = new StringJoiner("\n");
+        for (FreeSlotDto slot : slots) {
+            if (slot.earliestStart().equals(slot.latestStart())) {
+                joiner.add("Room " + slot.room() + ": start at " + slot.earliestStart().format(DATE_TIME_FORMATTER));
+            } else {
+                joiner.add("Room " + slot.room() + ": start between " + slot.earliestStart().format(DATE_TIME_FORMATTER)
+                        + " and " + slot.latestStart().format(DATE_TIME_FORMATTER));
+            }
+        }
+        return joiner.toString();
+    }
 
-            for (ScreeningDto screeningDto : screeningDtoList) {
-                joiner.add(screeningDto.toString());
+    @ShellMethod(key = "list screenings", value = "Lists the screenings, optionally of a movie, room, genre or period")
+    public String listScreenings(@ShellOption(defaultValue = ShellOption.NULL) Integer page,
+                                 @ShellOption(defaultValue = "20") int size,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String movie,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String room,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String genre,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String from,
+                                 @ShellOption(defaultValue = ShellOption.NULL) String to) {
+        String none = "There are no screenings";
+        try {
+            ScreeningFilterDto filter = new ScreeningFilterDto(movie, room, genre,
+                    from == null ? null : LocalDateTime.parse(from, DATE_TIME_FORMATTER),
+                    to == null ? null : LocalDateTime.parse(to, DATE_TIME_FORMATTER));
+            if (!filter.isEmpty()) {
+                none = "There are no matching screenings";
+            }
+            if (page != null) {
+                return listScreeningPage(filter, page, size, none);
+            }
+            if (listRenderer.render(action -> screeningService.forEachScreening(filter, action),
+                    ScreeningDto::appendTo) > 0) {
+                return null;
             }
+        } catch (Exception e) {
+            return e.getMessage();
+        }
 
-            return builder.append(joiner).toString();
+        return none;
+    }
+
+    private String listScreeningPage(ScreeningFilterDto filter, int page, int size, String none) throws Exception {
+        List<ScreeningDto> screeningDtoList = screeningService.screeningPage(filter, page, size);
+
+        if (!screeningDtoList.isEmpty()) {
+            listRenderer.render(screeningDtoList::forEach, ScreeningDto::appendTo);
+            return null;
         }
 
-        return "There are no screenings";
+        return page == 1 ? none : none + " on page " + page;
     }
 
     public Availability isAvailable() {
-        if (userService.describeAccount().isPresent()
-                && userService.describeAccount().get().role()
-                .equals(User.Role.ADMIN)) {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
             return Availability.available();
         }
 
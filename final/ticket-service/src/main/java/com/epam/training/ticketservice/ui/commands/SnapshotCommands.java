@@ -0,0 +1,47 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import com.epam.training.ticketservice.core.dto.SnapshotDto;
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.core.snapshot.SnapshotManager;
+import com.epam.training.ticketservice.ui.session.ShellSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.Availability;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellMethodAvailability;
+
+import java.util.Optional;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class SnapshotCommands {
+
+    private final SnapshotManager snapshotManager;
+    private final UserService userService;
+    private final ShellSession shellSession;
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "snapshot", value = "Writes a snapshot of the movies, rooms and screenings")
+    public String snapshot() {
+        try {
+            SnapshotDto snapshot = snapshotManager.snapshot();
+            return "Snapshot written with " + snapshot.movies() + " movies, " + snapshot.rooms() + " rooms and "
+                    + snapshot.screenings() + " screenings in " + snapshot.millis() + " ms";
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    public Availability isAvailable() {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isEmpty() || !account.get().role().equals(User.Role.ADMIN)) {
+            return Availability.unavailable("You are not authorized");
+        } else if (!snapshotManager.isEnabled()) {
+            return Availability.unavailable("Snapshots are only taken in durable mode");
+        }
+
+        return Availability.available();
+    }
+}
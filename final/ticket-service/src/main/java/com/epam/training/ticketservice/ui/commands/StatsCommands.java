@@ -0,0 +1,38 @@
+package com.epam.training.ticketservice.ui.commands;
+
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.metrics.MetricsReport;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.ui.session.ShellSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.Availability;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellMethodAvailability;
+
+import java.util.Optional;
+
+@ShellComponent
+@RequiredArgsConstructor
+public class StatsCommands {
+
+    private final MetricsReport metricsReport;
+    private final UserService userService;
+    private final ShellSession shellSession;
+
+    @ShellMethodAvailability("isAvailable")
+    @ShellMethod(key = "show stats", value = "Shows call counts, latencies and cache hit ratios")
+    public String showStats() {
+        return metricsReport.render();
+    }
+
+    public Availability isAvailable() {
+        Optional<UserDto> account = userService.describeAccount(shellSession.getId());
+        if (account.isPresent() && account.get().role().equals(User.Role.ADMIN)) {
+            return Availability.available();
+        }
+
+        return Availability.unavailable("You are not authorized");
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.training.ticketservice.ui.config;
+
+import com.epam.training.ticketservice.core.metrics.InvocationMetrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CommandMetricsAspect {
+
+    private final InvocationMetrics invocationMetrics;
+
+    @Around("@annotation(shellMethod)")
+    public Object timeCommand(ProceedingJoinPoint joinPoint, ShellMethod shellMethod) throws Throwable {
+        String command = shellMethod.key().length > 0 ? shellMethod.key()[0] : joinPoint.getSignature().getName();
+        return invocationMetrics.time(InvocationMetrics.COMMAND_TIMER, Tags.of("command", command), joinPoint);
+    }
+}
@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.ui.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class WebServerConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> requestExecutorCustomizer(
+            @Value("${ticket-service.http.virtual-threads:true}") boolean useVirtualThreads) {
+        return protocolHandler -> {
+            if (useVirtualThreads) {
+                newVirtualThreadPerTaskExecutor().ifPresent(protocolHandler::setExecutor);
+            }
+        };
+    }
+
+    static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
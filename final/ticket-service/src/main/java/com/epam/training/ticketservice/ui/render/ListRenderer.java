@@ -0,0 +1,90 @@
+package com.epam.training.ticketservice.ui.render;
+
+import org.jline.terminal.Terminal;
+import org.springframework.stereotype.Component;
+
+import java.io.PrintWriter;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Writes the rows of a list command straight to the terminal instead of joining them into one string first.
+ *
+ * <p>Rows are formatted into a single reused buffer and flushed a page at a time, so the first page shows up while
+ * the rest is still being read and memory does not grow with the length of the list. The bytes written are the same
+ * as printing the rows joined by new lines as the command's result.
+ */
+@Component
+public class ListRenderer {
+
+    static final int PAGE_ROWS = 256;
+
+    private final Terminal terminal;
+
+    public ListRenderer(Terminal terminal) {
+        this.terminal = terminal;
+    }
+
+    /**
+     * Renders every row {@code source} hands over and returns the number of rendered rows.
+     */
+    public <T, E extends Exception> int render(Source<T, E> source, BiConsumer<T, StringBuilder> format) throws E {
+        Page<T> page = new Page<>(terminal.writer(), format);
+        source.forEach(page);
+        return page.finish();
+    }
+
+    /**
+     * Hands every row to the given action, like {@link Iterable#forEach} but allowed to fail before or while doing so.
+     */
+    @FunctionalInterface
+    public interface Source<T, E extends Exception> {
+
+        void forEach(Consumer<T> action) throws E;
+    }
+
+    private static final class Page<T> implements Consumer<T> {
+
+        private final PrintWriter writer;
+        private final BiConsumer<T, StringBuilder> format;
+        private final StringBuilder buffer = new StringBuilder(PAGE_ROWS * 96);
+        private char[] chars = new char[0];
+        private int rows;
+
+        private Page(PrintWriter writer, BiConsumer<T, StringBuilder> format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        @Override
+        public void accept(T row) {
+            if (rows++ > 0) {
+                buffer.append('\n');
+            }
+            format.accept(row, buffer);
+            if (rows % PAGE_ROWS == 0) {
+                flush();
+            }
+        }
+
+        private int finish() {
+            if (rows > 0) {
+                flush();
+                writer.println();
+                writer.flush();
+            }
+            return rows;
+        }
+
+        private void flush() {
+            int length = buffer.length();
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            buffer.getChars(0, length, chars, 0);
+            writer.write(chars, 0, length);
+            writer.flush();
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.format.DateTimeParseException;
+
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ApiMessage> notFound(Exception e) {
+        return respond(HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler({AlreadyExistsException.class, ExtendingException.class, BreakStageException.class,
+        SeatTakenException.class})
+    public ResponseEntity<ApiMessage> conflict(Exception e) {
+        return respond(HttpStatus.CONFLICT, e);
+    }
+
+    @ExceptionHandler(RoomBusyException.class)
+    public ResponseEntity<ApiMessage> busy(Exception e) {
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, e);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, DateTimeParseException.class})
+    public ResponseEntity<ApiMessage> badRequest(Exception e) {
+        return respond(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiMessage> stillReferenced(Exception e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiMessage("The request conflicts with data that still refers to it"));
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ApiMessage> unauthorized(Exception e) {
+        return respond(HttpStatus.UNAUTHORIZED, e);
+    }
+
+    private static ResponseEntity<ApiMessage> respond(HttpStatus status, Exception e) {
+        return ResponseEntity.status(status).body(new ApiMessage(e.getMessage()));
+    }
+}
@@ -0,0 +1,4 @@
+package com.epam.training.ticketservice.ui.rest;
+
+public record ApiMessage(String message) {
+}
@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ApiSession {
+
+    public static final String HEADER = "X-Session-Token";
+
+    private final UserService userService;
+
+    public Optional<UserDto> find(String token) {
+        return token == null ? Optional.empty() : userService.describeAccount(token);
+    }
+
+    public UserDto requireAdmin(String token) throws UnauthorizedException {
+        return find(token)
+                .filter(userDto -> userDto.role().equals(User.Role.ADMIN))
+                .orElseThrow(() -> new UnauthorizedException("You are not authorized"));
+    }
+
+    public UserDto requireUser(String token) throws UnauthorizedException {
+        return find(token)
+                .filter(userDto -> userDto.role().equals(User.Role.USER))
+                .orElseThrow(() -> new UnauthorizedException("You are not signed in"));
+    }
+}
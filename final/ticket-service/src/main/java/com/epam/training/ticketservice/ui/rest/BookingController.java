@@ -0,0 +1,110 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.dto.BookingDto;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.HoldDto;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+import com.epam.training.ticketservice.core.service.BookingService;
+import com.epam.training.ticketservice.core.service.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class BookingController {
+
+    private final BookingService bookingService;
+    private final PricingService pricingService;
+    private final ApiSession apiSession;
+
+    @PostMapping("/bookings")
+    public ResponseEntity<BookingDto> book(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                           @RequestBody BookingRequest booking)
+            throws UnauthorizedException, NotFoundException, SeatTakenException {
+        String username = apiSession.requireUser(token).username();
+        BookingDto bookingDto = bookingService.book(username, booking.movie(), booking.room(),
+                parse(booking.screeningTime()), Seat.parseList(booking.seats()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingDto);
+    }
+
+    @DeleteMapping("/bookings")
+    public ApiMessage cancelBooking(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                    @RequestParam String movie, @RequestParam String room,
+                                    @RequestParam String screeningTime, @RequestParam String seats)
+            throws UnauthorizedException, NotFoundException {
+        bookingService.cancelBooking(apiSession.requireUser(token).username(), movie, room, parse(screeningTime),
+                Seat.parseList(seats));
+        return new ApiMessage("Booking is cancelled");
+    }
+
+    @PostMapping("/bookings/best")
+    public ResponseEntity<BookingDto> bookBest(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token,
+            @RequestBody BestBookingRequest booking)
+            throws UnauthorizedException, NotFoundException, SeatTakenException {
+        String username = apiSession.requireUser(token).username();
+        BookingDto bookingDto = bookingService.bookBest(username, booking.movie(), booking.room(),
+                parse(booking.screeningTime()), booking.count());
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingDto);
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<HoldDto> holdSeats(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                             @RequestBody BookingRequest booking)
+            throws UnauthorizedException, NotFoundException, SeatTakenException {
+        String username = apiSession.requireUser(token).username();
+        HoldDto holdDto = bookingService.holdSeats(username, booking.movie(), booking.room(),
+                parse(booking.screeningTime()), Seat.parseList(booking.seats()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(holdDto);
+    }
+
+    @PostMapping("/holds/{id}/confirm")
+    public ResponseEntity<BookingDto> confirmHold(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token, @PathVariable long id)
+            throws UnauthorizedException, NotFoundException {
+        BookingDto bookingDto = bookingService.confirmHold(apiSession.requireUser(token).username(), id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingDto);
+    }
+
+    @GetMapping("/bookings")
+    public List<BookingRecordDto> bookingHistory(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token) throws UnauthorizedException {
+        return bookingService.bookingHistory(apiSession.requireUser(token).username());
+    }
+
+    @GetMapping("/prices")
+    public PriceDto showPrice(@RequestParam String movie, @RequestParam String room,
+                              @RequestParam String screeningTime, @RequestParam String seats)
+            throws NotFoundException {
+        return new PriceDto(pricingService.quote(movie, room, parse(screeningTime), Seat.parseList(seats).size()));
+    }
+
+    private static LocalDateTime parse(String screeningTime) {
+        return LocalDateTime.parse(screeningTime, ScreeningController.DATE_TIME_FORMATTER);
+    }
+
+    public record BookingRequest(String movie, String room, String screeningTime, String seats) {
+    }
+
+    public record BestBookingRequest(String movie, String room, String screeningTime, int count) {
+    }
+
+    public record PriceDto(int price) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.service.MovieService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/movies")
+@RequiredArgsConstructor
+public class MovieController {
+
+    private final MovieService movieService;
+    private final ApiSession apiSession;
+
+    @GetMapping
+    public List<MovieDto> listMovies() {
+        return movieService.movieList();
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiMessage> createMovie(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token,
+            @RequestBody MovieRequest movie)
+            throws UnauthorizedException, AlreadyExistsException {
+        apiSession.requireAdmin(token);
+        movieService.createMovie(movie.name(), movie.genre(), movie.length());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ApiMessage("The movie is created"));
+    }
+
+    @PutMapping("/{name}")
+    public ApiMessage updateMovie(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                  @PathVariable String name, @RequestBody MovieRequest movie)
+            throws UnauthorizedException, NotFoundException {
+        apiSession.requireAdmin(token);
+        movieService.updateMovie(name, movie.genre(), movie.length());
+        return new ApiMessage("The movie is updated");
+    }
+
+    @DeleteMapping("/{name}")
+    public ApiMessage deleteMovie(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                  @PathVariable String name)
+            throws UnauthorizedException, NotFoundException, RoomBusyException {
+        apiSession.requireAdmin(token);
+        movieService.deleteMovie(name);
+        return new ApiMessage("The movie is deleted");
+    }
+
+    public record MovieRequest(String name, String genre, int length) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.service.RoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class RoomController {
+
+    private final RoomService roomService;
+    private final ApiSession apiSession;
+
+    @GetMapping
+    public List<RoomDto> listRooms() {
+        return roomService.roomList();
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiMessage> createRoom(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token,
+            @RequestBody RoomRequest room)
+            throws UnauthorizedException, AlreadyExistsException {
+        apiSession.requireAdmin(token);
+        roomService.createRoom(room.name(), room.rows(), room.cols());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ApiMessage("The room is created"));
+    }
+
+    @PutMapping("/{name}")
+    public ApiMessage updateRoom(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                 @PathVariable String name, @RequestBody RoomRequest room)
+            throws UnauthorizedException, NotFoundException {
+        apiSession.requireAdmin(token);
+        roomService.updateRoom(name, room.rows(), room.cols());
+        return new ApiMessage("The room is updated");
+    }
+
+    @DeleteMapping("/{name}")
+    public ApiMessage deleteRoom(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                 @PathVariable String name)
+            throws UnauthorizedException, NotFoundException, RoomBusyException {
+        apiSession.requireAdmin(token);
+        roomService.deleteRoom(name);
+        return new ApiMessage("The room is deleted");
+    }
+
+    public record RoomRequest(String name, int rows, int cols) {
+    }
+}
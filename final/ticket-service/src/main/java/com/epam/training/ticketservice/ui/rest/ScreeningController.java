@@ -0,0 +1,81 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningFilterDto;
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.service.ScreeningService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/screenings")
+@RequiredArgsConstructor
+public class ScreeningController {
+
+    static final DateTimeFormatter DATE_TIME_FORMATTER = ScreeningDto.DATE_TIME_FORMATTER;
+
+    private final ScreeningService screeningService;
+    private final ApiSession apiSession;
+
+    @GetMapping
+    public List<ScreeningDto> listScreenings(@RequestParam(required = false) Integer page,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             @RequestParam(required = false) String movie,
+                                             @RequestParam(required = false) String room,
+                                             @RequestParam(required = false) String genre,
+                                             @RequestParam(required = false) String from,
+                                             @RequestParam(required = false) String to)
+            throws NotFoundException {
+        ScreeningFilterDto filter = new ScreeningFilterDto(movie, room, genre,
+                from == null ? null : LocalDateTime.parse(from, DATE_TIME_FORMATTER),
+                to == null ? null : LocalDateTime.parse(to, DATE_TIME_FORMATTER));
+        if (page == null) {
+            return screeningService.screeningList(filter);
+        }
+        return screeningService.screeningPage(filter, page, size);
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiMessage> createScreening(
+            @RequestHeader(value = ApiSession.HEADER, required = false) String token,
+            @RequestBody ScreeningRequest screening)
+            throws UnauthorizedException, NotFoundException, ExtendingException, BreakStageException,
+            RoomBusyException {
+        apiSession.requireAdmin(token);
+        screeningService.createScreening(screening.movie(), screening.room(), screening.startTime());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ApiMessage("Screening is created"));
+    }
+
+    @DeleteMapping
+    public ApiMessage deleteScreening(@RequestHeader(value = ApiSession.HEADER, required = false) String token,
+                                      @RequestParam String movie, @RequestParam String room,
+                                      @RequestParam String screeningTime)
+            throws UnauthorizedException, NotFoundException, RoomBusyException {
+        apiSession.requireAdmin(token);
+        screeningService.deleteScreening(movie, room, LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER));
+        return new ApiMessage("Screening is deleted");
+    }
+
+    public record ScreeningRequest(String movie, String room, String screeningTime) {
+
+        LocalDateTime startTime() {
+            return LocalDateTime.parse(screeningTime, DATE_TIME_FORMATTER);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.training.ticketservice.ui.rest;
+
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.service.UserService;
+import com.epam.training.ticketservice.core.session.SessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SessionController {
+
+    private final UserService userService;
+    private final SessionRegistry sessionRegistry;
+    private final ApiSession apiSession;
+
+    @PostMapping("/sessions")
+    public ResponseEntity<SessionDto> signIn(@RequestBody Credentials credentials) throws UnauthorizedException {
+        String token = sessionRegistry.newSessionId();
+        Optional<UserDto> userDto = credentials.privileged()
+                ? userService.login(token, credentials.username(), credentials.password())
+                : userService.signIn(token, credentials.username(), credentials.password());
+        return userDto
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(new SessionDto(token, user)))
+                .orElseThrow(() -> new UnauthorizedException("Login failed due to incorrect credentials"));
+    }
+
+    @DeleteMapping("/sessions")
+    public ApiMessage signOut(@RequestHeader(value = ApiSession.HEADER, required = false) String token) {
+        return apiSession.find(token)
+                .flatMap(userDto -> userService.logout(token))
+                .map(userDto -> new ApiMessage(userDto.username() + " successfully logged out."))
+                .orElse(new ApiMessage("There is no user logged in."));
+    }
+
+    @GetMapping("/account")
+    public UserDto describeAccount(@RequestHeader(value = ApiSession.HEADER, required = false) String token)
+            throws UnauthorizedException {
+        return apiSession.find(token)
+                .orElseThrow(() -> new UnauthorizedException("You are not signed in"));
+    }
+
+    @PostMapping("/users")
+    public ResponseEntity<ApiMessage> signUp(@RequestBody Credentials credentials) throws AlreadyExistsException {
+        userService.signUp(credentials.username(), credentials.password());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiMessage("Signed up with account '" + credentials.username() + "'"));
+    }
+
+    public record Credentials(String username, String password, boolean privileged) {
+    }
+
+    public record SessionDto(String token, UserDto user) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.training.ticketservice.ui.rest;
+
+public class UnauthorizedException extends Exception {
+    public UnauthorizedException(String what) {
+        super(what);
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.training.ticketservice.ui.session;
+
+import com.epam.training.ticketservice.core.session.SessionRegistry;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class ShellSession {
+
+    private final String id;
+
+    public ShellSession(SessionRegistry sessionRegistry) {
+        this.id = sessionRegistry.newPinnedSessionId();
+    }
+}
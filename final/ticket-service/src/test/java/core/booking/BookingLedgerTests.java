@@ -0,0 +1,62 @@
+package core.booking;
+
+import com.epam.training.ticketservice.core.booking.BookingLedger;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BookingLedgerTests {
+
+    private final BookingRepo bookingRepo = mock(BookingRepo.class);
+    private final BookingRecordDto booking = new BookingRecordDto(1, "5,5", "Sátántangó", "Pedersoli",
+            LocalDateTime.of(2021, 3, 15, 11, 0), 1500);
+
+    @Test
+    public void testHistoryOfShouldDropTheLeastRecentlyReadHistoryWhenTheLedgerIsFull() {
+        //Given
+        BookingLedger underTest = new BookingLedger(bookingRepo, 2);
+        when(bookingRepo.findHistory("anna")).thenReturn(List.of(booking));
+        underTest.historyOf("anna");
+        underTest.historyOf("bela");
+        underTest.historyOf("anna");
+
+        //When
+        underTest.historyOf("cecil");
+        underTest.historyOf("anna");
+        underTest.historyOf("bela");
+
+        //Then
+        assertEquals(2, underTest.size());
+        verify(bookingRepo, times(1)).findHistory("anna");
+        verify(bookingRepo, times(2)).findHistory("bela");
+    }
+
+    @Test
+    public void testHistoryOfShouldNotKeepAHistoryWhenABookingWasRecordedWhileItWasRead() {
+        //Given
+        BookingLedger underTest = new BookingLedger(bookingRepo, 100);
+        when(bookingRepo.findHistory("anna")).thenAnswer(invocation -> {
+            underTest.record("anna", booking);
+            return List.of();
+        }).thenReturn(List.of(booking));
+
+        //When
+        List<BookingRecordDto> first = underTest.historyOf("anna");
+        List<BookingRecordDto> second = underTest.historyOf("anna");
+
+        //Then
+        assertEquals(List.of(), first);
+        assertEquals(List.of(booking), second);
+        assertEquals(List.of(booking), underTest.historyOf("anna"));
+        verify(bookingRepo, times(2)).findHistory("anna");
+    }
+}
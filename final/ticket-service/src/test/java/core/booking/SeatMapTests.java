@@ -0,0 +1,68 @@
+package core.booking;
+
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SeatMapTests {
+
+    @Test
+    public void testFindBestBlockShouldReturnTheMiddleSeatsWhenTheRoomIsEmpty() {
+        //Given
+        SeatMap underTest = new SeatMap(20, 10);
+
+        //When
+        Optional<List<Seat>> block = underTest.findBestBlock(2);
+
+        //Then
+        assertEquals(Optional.of(Seat.parseList("10,5 10,6")), block);
+    }
+
+    @Test
+    public void testFindBestBlockShouldSkipTheMiddleWhenItsRunIsTooShort() {
+        //Given
+        SeatMap underTest = new SeatMap(3, 10);
+        underTest.markTaken(Seat.parseList("2,5 2,6 1,5 3,5"));
+
+        //When
+        Optional<List<Seat>> block = underTest.findBestBlock(3);
+
+        //Then
+        assertEquals(Optional.of(Seat.parseList("1,6 1,7 1,8")), block);
+    }
+
+    @Test
+    public void testFindBestBlockShouldFindARunAcrossWordsWhenTheRowIsWiderThanAWord() {
+        //Given
+        SeatMap underTest = new SeatMap(1, 130);
+        for (int col = 1; col <= 130; col++) {
+            if (col < 60 || col > 69) {
+                underTest.markTaken(List.of(new Seat(1, col)));
+            }
+        }
+
+        //When
+        Optional<List<Seat>> block = underTest.findBestBlock(10);
+
+        //Then
+        assertEquals(Optional.of(Seat.parseList("1,60 1,61 1,62 1,63 1,64 1,65 1,66 1,67 1,68 1,69")), block);
+    }
+
+    @Test
+    public void testFindBestBlockShouldReturnEmptyWhenNoRowHasEnoughAdjacentFreeSeats() {
+        //Given
+        SeatMap underTest = new SeatMap(2, 4);
+        underTest.markTaken(Seat.parseList("1,2 2,3"));
+
+        //When
+        Optional<List<Seat>> block = underTest.findBestBlock(3);
+
+        //Then
+        assertEquals(Optional.empty(), block);
+    }
+}
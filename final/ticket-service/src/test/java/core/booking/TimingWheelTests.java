@@ -0,0 +1,84 @@
+package core.booking;
+
+import com.epam.training.ticketservice.core.booking.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TimingWheel<String> underTest = new TimingWheel<>(Duration.ofMillis(100), 8, clock::get);
+
+    @Test
+    public void testAdvanceShouldExpireATimeoutAtItsDeadlineAndNotBefore() {
+        //Given
+        underTest.schedule("hold", Duration.ofMillis(250));
+
+        //When
+        clock.set(Duration.ofMillis(249).toNanos());
+        List<String> early = underTest.advance();
+        clock.set(Duration.ofMillis(300).toNanos());
+        List<String> due = underTest.advance();
+
+        //Then
+        assertEquals(emptyList(), early);
+        assertEquals(List.of("hold"), due);
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    public void testAdvanceShouldKeepATimeoutForALaterRoundWhenItSharesTheBucket() {
+        //Given
+        underTest.schedule("now", Duration.ofMillis(100));
+        underTest.schedule("next round", Duration.ofMillis(900));
+
+        //When
+        clock.set(Duration.ofMillis(100).toNanos());
+        List<String> first = underTest.advance();
+        clock.set(Duration.ofMillis(900).toNanos());
+        List<String> second = underTest.advance();
+
+        //Then
+        assertEquals(List.of("now"), first);
+        assertEquals(List.of("next round"), second);
+    }
+
+    @Test
+    public void testAdvanceShouldExpireEveryDueTimeoutWhenSeveralTurnsPassedSinceTheLastCall() {
+        //Given
+        for (int i = 1; i <= 20; i++) {
+            underTest.schedule("hold " + i, Duration.ofMillis(100L * i));
+        }
+
+        //When
+        clock.set(Duration.ofMinutes(1).toNanos());
+        List<String> expired = underTest.advance();
+
+        //Then
+        assertEquals(20, expired.size());
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    public void testCancelShouldRemoveTheTimeoutWhenItIsStillPending() {
+        //Given
+        TimingWheel.Timeout<String> timeout = underTest.schedule("hold", Duration.ofMillis(100));
+
+        //When
+        boolean cancelled = underTest.cancel(timeout);
+        clock.set(Duration.ofSeconds(1).toNanos());
+
+        //Then
+        assertTrue(cancelled);
+        assertEquals(emptyList(), underTest.advance());
+        assertFalse(underTest.cancel(timeout));
+    }
+}
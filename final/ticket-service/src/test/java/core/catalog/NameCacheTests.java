@@ -0,0 +1,111 @@
+package core.catalog;
+
+import com.epam.training.ticketservice.core.catalog.NameCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NameCacheTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<String>> loader = name -> {
+        loads.incrementAndGet();
+        return name.startsWith("missing") ? Optional.empty() : Optional.of(name.toUpperCase());
+    };
+    private final NameCache<String> underTest = new NameCache<>(2, Duration.ofMinutes(1), now::get);
+
+    @Test
+    public void testGetShouldLoadOnlyOnceWhenNameIsRequestedAgain() {
+        //Given
+        underTest.get("cars", loader);
+
+        //When
+        Optional<String> value = underTest.get("cars", loader);
+
+        //Then
+        assertEquals(Optional.of("CARS"), value);
+        assertEquals(1, loads.get());
+        assertEquals(new NameCache.Stats(1, 1, 1), underTest.stats());
+    }
+
+    @Test
+    public void testGetShouldNotCacheMissingValues() {
+        //Given
+        underTest.get("missing", loader);
+
+        //When
+        Optional<String> value = underTest.get("missing", loader);
+
+        //Then
+        assertTrue(value.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGetShouldReloadWhenEntryHasExpired() {
+        //Given
+        underTest.get("cars", loader);
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        //When
+        underTest.get("cars", loader);
+
+        //Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGetShouldEvictLeastRecentlyUsedEntryWhenCacheIsFull() {
+        //Given
+        underTest.get("cars", loader);
+        underTest.get("up", loader);
+        underTest.get("cars", loader);
+
+        //When
+        underTest.get("coco", loader);
+        underTest.get("cars", loader);
+        underTest.get("up", loader);
+
+        //Then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testInvalidateShouldReloadOnlyTheInvalidatedName() {
+        //Given
+        underTest.get("cars", loader);
+        underTest.get("up", loader);
+
+        //When
+        underTest.invalidate("cars");
+        underTest.get("cars", loader);
+        underTest.get("up", loader);
+
+        //Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testGetShouldNotStoreValueWhenNameIsInvalidatedDuringLoad() {
+        //Given
+        Function<String, Optional<String>> racingLoader = name -> {
+            underTest.invalidate(name);
+            return loader.apply(name);
+        };
+
+        //When
+        underTest.get("cars", racingLoader);
+        underTest.get("cars", loader);
+
+        //Then
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,161 @@
+package core.event;
+
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.event.DomainEventConsumer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DomainEventBusTests {
+
+    @Test
+    public void testPublishShouldHandEveryEventToEveryConsumerInOrderWhenWritersRace() throws Exception {
+        //Given
+        List<DomainEvent> first = Collections.synchronizedList(new ArrayList<>());
+        List<DomainEvent> second = Collections.synchronizedList(new ArrayList<>());
+        DomainEventBus underTest = new DomainEventBus(List.of(first::addAll, second::addAll), 8, 4);
+        int writers = 8;
+        int eventsPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+
+        //When
+        for (int i = 0; i < writers; i++) {
+            String room = "room " + i;
+            executor.submit(() -> IntStream.range(0, eventsPerWriter)
+                    .forEach(rows -> underTest.publish(new DomainEvent.RoomCreated(room, rows, 10))));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        underTest.close();
+
+        //Then
+        assertEquals(writers * eventsPerWriter, first.size());
+        assertEquals(first, second);
+        for (int i = 0; i < writers; i++) {
+            String room = "room " + i;
+            assertEquals(IntStream.range(0, eventsPerWriter).boxed().toList(), first.stream()
+                    .map(DomainEvent.RoomCreated.class::cast)
+                    .filter(event -> event.name().equals(room))
+                    .map(DomainEvent.RoomCreated::rows)
+                    .toList());
+        }
+    }
+
+    @Test
+    public void testPublishShouldWaitForASlowConsumerWhenTheBufferIsFull() throws Exception {
+        //Given
+        CountDownLatch release = new CountDownLatch(1);
+        List<DomainEvent> handled = Collections.synchronizedList(new ArrayList<>());
+        DomainEventConsumer slow = events -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.addAll(events);
+        };
+        DomainEventBus underTest = new DomainEventBus(List.of(slow), 4, 4);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //When
+        Future<?> publishing = executor.submit(() -> IntStream.range(0, 10)
+                .forEach(i -> underTest.publish(new DomainEvent.MovieDeleted("movie " + i))));
+        assertThrows(TimeoutException.class, () -> publishing.get(200, TimeUnit.MILLISECONDS));
+        long backlog = underTest.backlog();
+        release.countDown();
+        publishing.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        underTest.close();
+
+        //Then
+        assertTrue(backlog <= 5, "backlog " + backlog);
+        assertEquals(10, handled.size());
+    }
+
+    @Test
+    public void testPublishShouldKeepDeliveringWhenAConsumerFails() throws Exception {
+        //Given
+        List<DomainEvent> handled = Collections.synchronizedList(new ArrayList<>());
+        DomainEventConsumer failing = events -> {
+            handled.addAll(events);
+            throw new IllegalStateException("The consumer failed");
+        };
+        DomainEventBus underTest = new DomainEventBus(List.of(failing), 8, 1);
+
+        //When
+        underTest.publish(new DomainEvent.MovieDeleted("Sátántangó"));
+        underTest.publish(new DomainEvent.RoomDeleted("Pedersoli"));
+        underTest.close();
+
+        //Then
+        assertEquals(List.of(new DomainEvent.MovieDeleted("Sátántangó"), new DomainEvent.RoomDeleted("Pedersoli")),
+                handled);
+    }
+
+    @Test
+    public void testCloseShouldDeliverEveryAcceptedEventWhenWritersRaceIt() throws Exception {
+        //Given
+        List<DomainEvent> handled = Collections.synchronizedList(new ArrayList<>());
+        DomainEventBus underTest = new DomainEventBus(List.of(handled::addAll), 8, 4);
+        int writers = 4;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        for (int i = 0; i < writers; i++) {
+            executor.submit(() -> {
+                started.countDown();
+                try {
+                    while (true) {
+                        underTest.publish(new DomainEvent.MovieDeleted("Sátántangó"));
+                        accepted.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    return;
+                }
+            });
+        }
+        started.await();
+
+        //When
+        underTest.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        //Then
+        assertEquals(accepted.get(), handled.size());
+    }
+
+    @Test
+    public void testPublishShouldThrowWhenAConsumerThreadIsDead() {
+        //Given
+        DomainEventConsumer dying = events -> {
+            throw new AssertionError("The consumer died");
+        };
+        DomainEventBus underTest = new DomainEventBus(List.of(dying), 2, 1);
+
+        //When
+        //Then
+        assertThrows(IllegalStateException.class, () -> assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 4; i++) {
+                underTest.publish(new DomainEvent.RoomDeleted("Pedersoli"));
+            }
+        }));
+    }
+}
@@ -0,0 +1,179 @@
+package core.journal;
+
+import com.epam.training.ticketservice.core.journal.JournalEntry;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OperationJournalTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testAppendShouldWriteEntriesThatCanBeReadBackInOrder() throws Exception {
+        //Given
+        Path path = directory.resolve("operations.journal");
+        OperationJournal underTest = new OperationJournal(true, path, 1024);
+        LocalDateTime screeningTime = LocalDateTime.of(2021, 3, 15, 11, 0);
+
+        //When
+        underTest.append(JournalOperation.CREATE_MOVIE, "Sátántangó", "drama", 450);
+        underTest.append(JournalOperation.CREATE_SCREENING, "Sátántangó", "Pedersoli", screeningTime);
+        underTest.close();
+
+        //Then
+        List<JournalEntry> entries = readAll(path);
+        assertEquals(2, entries.size());
+        assertEquals(JournalOperation.CREATE_MOVIE, entries.get(0).operation());
+        assertEquals(List.of("Sátántangó", "drama", "450"), entries.get(0).arguments());
+        assertEquals(screeningTime, LocalDateTime.parse(entries.get(1).argument(2)));
+    }
+
+    @Test
+    public void testEnqueueShouldWriteEntriesInTheOrderTheyWereQueuedWhenAwaitedOutOfOrder() throws Exception {
+        //Given
+        Path path = directory.resolve("operations.journal");
+        OperationJournal underTest = new OperationJournal(true, path, 1024);
+        LocalDateTime screeningTime = LocalDateTime.of(2021, 3, 15, 11, 0);
+
+        //When
+        OperationJournal.Pending created = underTest.enqueue(JournalOperation.CREATE_SCREENING, "Sátántangó",
+                "Pedersoli", screeningTime);
+        OperationJournal.Pending deleted = underTest.enqueue(JournalOperation.DELETE_SCREENING, "Sátántangó",
+                "Pedersoli", screeningTime);
+        deleted.await();
+        created.await();
+        underTest.close();
+
+        //Then
+        assertEquals(List.of(JournalOperation.CREATE_SCREENING, JournalOperation.DELETE_SCREENING),
+                readAll(path).stream().map(JournalEntry::operation).toList());
+    }
+
+    @Test
+    public void testAppendShouldShareSyncsBetweenConcurrentWritersWhenUnderLoad() throws Exception {
+        //Given
+        OperationJournal underTest = new OperationJournal(true, directory.resolve("operations.journal"), 1024);
+        int writers = 32;
+        int appendsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        for (int i = 0; i < writers; i++) {
+            int writer = i;
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < appendsPerWriter; j++) {
+                    underTest.append(JournalOperation.CREATE_ROOM, "room " + writer + "-" + j, 10, 10);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        underTest.close();
+
+        //Then
+        assertEquals(writers * appendsPerWriter, underTest.entryCount());
+        assertTrue(underTest.syncCount() < underTest.entryCount());
+    }
+
+    @Test
+    public void testOpenShouldDropATornEntryWhenTheLastWriteWasInterrupted() throws Exception {
+        //Given
+        Path path = directory.resolve("operations.journal");
+        OperationJournal first = new OperationJournal(true, path, 1024);
+        first.append(JournalOperation.CREATE_MOVIE, "Spirited Away", "animation", 125);
+        first.close();
+        byte[] torn = JournalEntry.of(JournalOperation.DELETE_MOVIE, "Spirited Away").encode().array();
+        Files.write(path, Arrays.copyOf(torn, torn.length - 3), StandardOpenOption.APPEND);
+
+        //When
+        OperationJournal reopened = new OperationJournal(true, path, 1024);
+        reopened.append(JournalOperation.CREATE_ROOM, "Pedersoli", 20, 10);
+        reopened.close();
+
+        //Then
+        List<JournalEntry> entries = readAll(path);
+        assertEquals(List.of(JournalOperation.CREATE_MOVIE, JournalOperation.CREATE_ROOM),
+                entries.stream().map(JournalEntry::operation).toList());
+    }
+
+    @Test
+    public void testAppendShouldWriteNothingWhenRunWithoutJournaling() throws Exception {
+        //Given
+        Path path = directory.resolve("operations.journal");
+        OperationJournal underTest = new OperationJournal(true, path, 1024);
+
+        //When
+        underTest.withoutJournaling(() -> {
+            underTest.append(JournalOperation.DELETE_ROOM, "Pedersoli");
+            return null;
+        });
+        underTest.close();
+
+        //Then
+        assertEquals(0, Files.size(path));
+    }
+
+    @Test
+    public void testAppendShouldThrowIllegalStateExceptionWhenTheJournalIsClosed() throws Exception {
+        //Given
+        OperationJournal underTest = new OperationJournal(true, directory.resolve("operations.journal"), 1024);
+        underTest.close();
+
+        //When
+        //Then
+        assertThrows(IllegalStateException.class, () -> underTest.append(JournalOperation.DELETE_ROOM, "Pedersoli"));
+    }
+
+    @Test
+    public void testAppendShouldFailInsteadOfBlockingWhenTheWriterWasInterrupted() throws Exception {
+        //Given
+        OperationJournal underTest = new OperationJournal(true, directory.resolve("operations.journal"), 1024);
+        Thread writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("journal-writer"))
+                .findFirst()
+                .orElseThrow();
+
+        //When
+        writer.interrupt();
+        writer.join(5000);
+
+        //Then
+        assertFalse(writer.isAlive());
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(RuntimeException.class,
+                () -> underTest.append(JournalOperation.DELETE_ROOM, "Pedersoli")));
+        underTest.close();
+    }
+
+    private static List<JournalEntry> readAll(Path path) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+        JournalEntry.readAll(path, entries::add);
+        return entries;
+    }
+}
@@ -0,0 +1,95 @@
+package core.metrics;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.metrics.InvocationMetrics;
+import com.epam.training.ticketservice.core.metrics.MetricsReport;
+import com.epam.training.ticketservice.core.metrics.ServiceMetricsAspect;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.ScreeningCascade;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import com.epam.training.ticketservice.core.service.MovieService;
+import com.epam.training.ticketservice.core.service.impl.MovieServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceMetricsAspectTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MovieRepo movieRepo = mock(MovieRepo.class);
+    private final RoomRepo roomRepo = mock(RoomRepo.class);
+    private final CatalogLookup catalogLookup = new CatalogLookup(movieRepo, roomRepo, mock(ScreeningRepo.class),
+            100, Duration.ofMinutes(10));
+    private final MovieService underTest = proxy(new MovieServiceImpl(movieRepo, mock(ScreeningSchedule.class),
+            catalogLookup, new OperationJournal(false, null, 1), mock(OccupancyCounters.class), mock(DomainEventBus.class),
+            mock(ScreeningCascade.class)));
+    private final Movie movie = new Movie("Sátántangó", "drama", 450);
+
+    @Test
+    public void testServiceMethodShouldBeTimedPerMethodAndOutcome() throws AlreadyExistsException {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.empty(), Optional.of(movie));
+
+        //When
+        underTest.createMovie(movie.getName(), movie.getGenre(), movie.getLength());
+        assertThrows(AlreadyExistsException.class,
+                () -> underTest.createMovie(movie.getName(), movie.getGenre(), movie.getLength()));
+
+        //Then
+        Timer success = meterRegistry.get(InvocationMetrics.SERVICE_TIMER)
+                .tags("service", "MovieServiceImpl", "method", "createMovie", "outcome", "success")
+                .timer();
+        Timer failure = meterRegistry.get(InvocationMetrics.SERVICE_TIMER)
+                .tags("service", "MovieServiceImpl", "method", "createMovie", "outcome", "AlreadyExistsException")
+                .timer();
+        assertEquals(1, success.count());
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    public void testRenderShouldListTimedMethodsAndCacheHitRatios() throws AlreadyExistsException {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        catalogLookup.lookupMovie(movie.getName());
+        catalogLookup.lookupMovie(movie.getName());
+        catalogLookup.lookupMovie(movie.getName());
+        catalogLookup.lookupMovie(movie.getName());
+        underTest.movieList();
+
+        //When
+        String report = new MetricsReport(meterRegistry, catalogLookup).render();
+
+        //Then
+        assertTrue(report.startsWith("Service methods:" + System.lineSeparator()
+                + "MovieServiceImpl.movieList: 1 calls, mean "), report);
+        assertTrue(report.contains(", p50 "), report);
+        assertTrue(report.contains(", p99 "), report);
+        assertTrue(report.endsWith("Catalog caches:" + System.lineSeparator()
+                + "movie: 3 hits, 1 misses, 75.0% hit ratio, 1 entries" + System.lineSeparator()
+                + "room: 0 hits, 0 misses, 0.0% hit ratio, 0 entries"), report);
+    }
+
+    private MovieService proxy(MovieService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new ServiceMetricsAspect(new InvocationMetrics(meterRegistry)));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,161 @@
+package core.report;
+
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OccupancyCountersTests {
+
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final BookingRepo bookingRepo = mock(BookingRepo.class);
+    private final OccupancyCounters underTest = new OccupancyCounters(screeningRepo, bookingRepo,
+            mock(PlatformTransactionManager.class));
+    private final Movie movie = new Movie("Sátántangó", "drama", 450);
+    private final Room pedersoli = new Room("Pedersoli", 20, 10);
+    private final Room girotti = new Room("Girotti", 10, 10);
+    private final LocalDateTime morning = LocalDateTime.of(2021, 3, 15, 10, 0);
+    private final LocalDateTime evening = LocalDateTime.of(2021, 3, 15, 20, 0);
+
+    @Test
+    public void testAddBookingShouldCountTheSeatsAndRevenueOfTheScreeningRoomMovieAndDay() {
+        //Given
+        underTest.addScreening(new Screening(movie, pedersoli, morning));
+        underTest.addScreening(new Screening(movie, girotti, evening));
+
+        //When
+        underTest.addBooking(pedersoli.getName(), morning, 2, 3000);
+        underTest.addBooking(girotti.getName(), evening, 1, 1500);
+
+        //Then
+        assertEquals(new OccupancyDto(pedersoli.getName(), 1, 200, 2, 3000),
+                underTest.screening(pedersoli.getName(), morning).orElseThrow());
+        assertEquals(new OccupancyDto(girotti.getName(), 1, 100, 1, 1500), underTest.room(girotti.getName()));
+        assertEquals(new OccupancyDto(movie.getName(), 2, 300, 3, 4500), underTest.movie(movie.getName()));
+        assertEquals(new OccupancyDto("2021-03-15", 2, 300, 3, 4500), underTest.day(morning.toLocalDate()));
+    }
+
+    @Test
+    public void testRemoveRoomShouldTakeItsScreeningsOffTheMovieAndDayCounters() {
+        //Given
+        underTest.addScreening(new Screening(movie, pedersoli, morning));
+        underTest.addScreening(new Screening(movie, girotti, evening));
+
+        //When
+        underTest.removeRoom(girotti.getName());
+        underTest.resizeRoom(pedersoli.getName(), 50);
+
+        //Then
+        assertEquals(List.of(new OccupancyDto(pedersoli.getName(), 1, 50, 0, 0)), underTest.rooms());
+        assertEquals(new OccupancyDto(movie.getName(), 1, 50, 0, 0), underTest.movie(movie.getName()));
+        assertEquals(new OccupancyDto("2021-03-15", 1, 50, 0, 0), underTest.day(morning.toLocalDate()));
+    }
+
+    @Test
+    public void testRebuildShouldCountTheStoredScreeningsAndBookings() {
+        //Given
+        when(screeningRepo.streamScreeningDtos()).thenReturn(Stream.of(
+                new ScreeningDto(new Screening(movie, pedersoli, morning)),
+                new ScreeningDto(new Screening(movie, girotti, evening))));
+        when(bookingRepo.streamBookingRecords()).thenReturn(Stream.of(
+                new BookingRecordDto(1, "5,5 5,6", movie.getName(), pedersoli.getName(), morning, 3000)));
+
+        //When
+        underTest.rebuild();
+
+        //Then
+        assertEquals(new OccupancyDto(movie.getName(), 2, 300, 2, 3000), underTest.movie(movie.getName()));
+        assertEquals(new OccupancyDto(girotti.getName(), 1, 100, 0, 0), underTest.room(girotti.getName()));
+    }
+
+    @Test
+    public void testRebuildShouldHoldNewChangesBackUntilItIsInstalledWhenWritesKeepArriving() throws Exception {
+        //Given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(screeningRepo.streamScreeningDtos()).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return Stream.of(new ScreeningDto(new Screening(movie, pedersoli, morning)));
+        });
+        when(bookingRepo.streamBookingRecords()).thenAnswer(invocation -> Stream.empty());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        OccupancyCounters.Change inFlight = underTest.beginChange();
+
+        //When
+        Future<?> rebuilding = executor.submit(underTest::rebuild);
+        assertFalse(reading.await(100, TimeUnit.MILLISECONDS));
+        inFlight.close();
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        Future<?> booking = executor.submit(() -> {
+            try (OccupancyCounters.Change change = underTest.beginChange()) {
+                underTest.addBooking(pedersoli.getName(), morning, 2, 3000);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> booking.get(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        rebuilding.get(5, TimeUnit.SECONDS);
+        booking.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //Then
+        assertEquals(new OccupancyDto(pedersoli.getName(), 1, 200, 2, 3000), underTest.room(pedersoli.getName()));
+    }
+
+    @Test
+    public void testAddBookingShouldCountEveryBookingWhenBookingsRaceAcrossScreenings() throws Exception {
+        //Given
+        underTest.addScreening(new Screening(movie, pedersoli, morning));
+        underTest.addScreening(new Screening(movie, girotti, evening));
+        int bookers = 16;
+        int bookingsPerBooker = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(bookers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        for (int i = 0; i < bookers; i++) {
+            Room room = i % 2 == 0 ? pedersoli : girotti;
+            LocalDateTime screeningTime = i % 2 == 0 ? morning : evening;
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < bookingsPerBooker; j++) {
+                    underTest.addBooking(room.getName(), screeningTime, 1, 1500);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        //Then
+        long booked = (long) bookers * bookingsPerBooker;
+        assertEquals(new OccupancyDto(movie.getName(), 2, 300, booked, booked * 1500),
+                underTest.movie(movie.getName()));
+        assertEquals(booked / 2, underTest.room(girotti.getName()).bookedSeats());
+    }
+}
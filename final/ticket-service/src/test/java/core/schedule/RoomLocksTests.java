@@ -0,0 +1,63 @@
+package core.schedule;
+
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RoomLocksTests {
+
+    private final RoomLocks underTest = new RoomLocks(64, Duration.ofMillis(50));
+    private final Room pedersoli = new Room("Pedersoli", 20, 10);
+    private final Room chaplin = new Room("Chaplin", 10, 10);
+
+    @Test
+    public void testLockShouldNotWaitForAnotherRoomWhenThatRoomIsLocked() throws Exception {
+        //Given
+        pedersoli.setId(1);
+        chaplin.setId(2);
+
+        RoomLocks.Held lock = underTest.lock(pedersoli);
+
+        //When
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            try (RoomLocks.Held held = underTest.lock(chaplin)) {
+                // acquired
+            } catch (RoomBusyException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //Then
+        other.get(5, TimeUnit.SECONDS);
+        lock.close();
+    }
+
+    @Test
+    public void testLockShouldThrowRoomBusyExceptionUntilTheHolderClosesTheLock() throws Exception {
+        //Given
+        pedersoli.setId(1);
+        RoomLocks.Held lock = underTest.lock(pedersoli);
+
+        //When
+        CompletableFuture<Void> whileHeld = CompletableFuture.runAsync(() ->
+                assertThrows(RoomBusyException.class, () -> underTest.lock(pedersoli)));
+        whileHeld.get(5, TimeUnit.SECONDS);
+        lock.close();
+
+        //Then
+        CompletableFuture.runAsync(() -> {
+            try (RoomLocks.Held again = underTest.lock(pedersoli)) {
+                // acquired
+            } catch (RoomBusyException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,385 @@
+package core.service.impl;
+
+import com.epam.training.ticketservice.core.booking.BookingLedger;
+import com.epam.training.ticketservice.core.booking.Seat;
+import com.epam.training.ticketservice.core.booking.SeatHolds;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.BookingDto;
+import com.epam.training.ticketservice.core.dto.BookingRecordDto;
+import com.epam.training.ticketservice.core.dto.HoldDto;
+import com.epam.training.ticketservice.core.dto.OccupancyDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.SeatTakenException;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.BasePriceRepo;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.repository.UserRepo;
+import com.epam.training.ticketservice.core.service.impl.BookingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class BookingServiceImplTests {
+
+    private final BookingRepo bookingRepo = mock(BookingRepo.class);
+    private final UserRepo userRepo = mock(UserRepo.class);
+    private final MovieRepo movieRepo = mock(MovieRepo.class);
+    private final RoomRepo roomRepo = mock(RoomRepo.class);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final DomainEventBus eventBus = mock(DomainEventBus.class);
+    private final AtomicLong clock = new AtomicLong();
+    private final OccupancyCounters occupancyCounters = new OccupancyCounters(screeningRepo, bookingRepo,
+            mock(PlatformTransactionManager.class));
+    private final SeatMapRegistry seatMapRegistry = new SeatMapRegistry(bookingRepo);
+    private final BookingServiceImpl underTest = new BookingServiceImpl(
+            bookingRepo,
+            userRepo,
+            seatMapRegistry,
+            new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100, Duration.ofMinutes(10)),
+            new PriceCatalog(mock(BasePriceRepo.class), mock(PriceAttachmentRepo.class)),
+            new OperationJournal(false, null, 1),
+            new BookingLedger(bookingRepo, 100),
+            new SeatHolds(seatMapRegistry, Duration.ofMinutes(5), Duration.ofMillis(100), 512, clock::get),
+            occupancyCounters,
+            eventBus
+    );
+    private final User user = new User("sanyi", "asdQWE123", User.Role.USER);
+    private final Movie movie = new Movie("Sátántangó", "drama", 450);
+    private final Room room = new Room("Pedersoli", 20, 10);
+    private final LocalDateTime screeningTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+    private final Screening screening = new Screening(movie, room, screeningTime);
+
+    @BeforeEach
+    public void setUp() {
+        when(userRepo.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(movie, room, screeningTime))
+                .thenReturn(Optional.of(screening));
+        when(bookingRepo.findBookingsByScreening(screening)).thenReturn(emptyList());
+    }
+
+    @Test
+    public void testBookShouldSaveBookingWhenSeatsAreFree() throws NotFoundException, SeatTakenException {
+        //Given
+        List<Seat> seats = Seat.parseList("5,5 5,6");
+
+        //When
+        BookingDto bookingDto = underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                screeningTime, seats);
+
+        //Then
+        assertEquals(seats, bookingDto.seats());
+        assertEquals(3000, bookingDto.price());
+        verify(bookingRepo).save(new Booking(user, screening, "5,5 5,6", 3000));
+        verify(eventBus).publish(new DomainEvent.SeatsBooked(user.getUsername(), movie.getName(), room.getName(),
+                screeningTime, seats, 3000));
+    }
+
+    @Test
+    public void testBookShouldThrowSeatTakenExceptionWhenASeatIsAlreadyBooked() {
+        //Given
+        when(bookingRepo.findBookingsByScreening(screening))
+                .thenReturn(List.of(new Booking(user, screening, "5,5", 1500)));
+
+        //When
+        SeatTakenException exception = assertThrows(SeatTakenException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                        screeningTime, Seat.parseList("5,6 5,5")));
+
+        //Then
+        assertEquals("Seat (5,5) is already taken", exception.getMessage());
+        verify(bookingRepo, never()).save(any(Booking.class));
+    }
+
+    @Test
+    public void testBookShouldNotKeepAnySeatWhenBookingFails() throws NotFoundException, SeatTakenException {
+        //Given
+        underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime, Seat.parseList("5,5"));
+        assertThrows(SeatTakenException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                        screeningTime, Seat.parseList("5,6 5,5")));
+
+        //When
+        BookingDto bookingDto = underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                screeningTime, Seat.parseList("5,6"));
+
+        //Then
+        assertEquals(Seat.parseList("5,6"), bookingDto.seats());
+    }
+
+    @Test
+    public void testBookShouldThrowNotFoundExceptionWhenSeatDoesNotExist() {
+        //Given
+
+        //When
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                        screeningTime, Seat.parseList("5,5 21,1")));
+
+        //Then
+        assertEquals("Seat (21,1) does not exist in this room", exception.getMessage());
+        verify(bookingRepo, never()).save(any(Booking.class));
+    }
+
+    @Test
+    public void testBookShouldThrowNotFoundExceptionWhenScreeningDoesNotExist() {
+        //Given
+
+        //When
+        assertThrows(NotFoundException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                        screeningTime.plusDays(1), Seat.parseList("5,5")));
+
+        //Then
+        verify(bookingRepo, never()).save(any(Booking.class));
+    }
+
+    @Test
+    public void testBookShouldGiveEverySeatToOneBookingWhenBookersRace() throws InterruptedException {
+        //Given
+        Queue<Booking> savedBookings = new ConcurrentLinkedQueue<>();
+        when(bookingRepo.save(any(Booking.class))).thenAnswer(invocation -> {
+            savedBookings.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        int bookers = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        for (int i = 0; i < bookers; i++) {
+            int row = i % room.getRows() + 1;
+            executor.submit(() -> {
+                start.await();
+                try {
+                    underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                            Seat.parseList(row + ",1 " + row + ",2 " + (row % room.getRows() + 1) + ",1"));
+                } catch (SeatTakenException ignored) {
+                    // losing the race is an expected outcome
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        //Then
+        Set<Seat> bookedSeats = new HashSet<>();
+        List<Seat> allSeats = new ArrayList<>();
+        for (Booking booking : savedBookings) {
+            allSeats.addAll(Seat.parseList(booking.getSeats()));
+        }
+        bookedSeats.addAll(allSeats);
+        assertEquals(allSeats.size(), bookedSeats.size());
+    }
+
+    @Test
+    public void testBookingHistoryShouldListNewBookingsWithTheirPriceWithoutQueryingAgain()
+            throws NotFoundException, SeatTakenException {
+        //Given
+        when(bookingRepo.findHistory(user.getUsername())).thenReturn(emptyList());
+        when(bookingRepo.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(1);
+            return booking;
+        });
+        underTest.bookingHistory(user.getUsername());
+
+        //When
+        underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime, Seat.parseList("5,5 5,6"));
+        List<BookingRecordDto> history = underTest.bookingHistory(user.getUsername());
+
+        //Then
+        assertEquals(List.of(new BookingRecordDto(1, Seat.parseList("5,5 5,6"), movie.getName(), room.getName(),
+                screeningTime, 3000)), history);
+        verify(bookingRepo, times(1)).findHistory(user.getUsername());
+    }
+
+    @Test
+    public void testBookingHistoryShouldListABookingOnceWhenTheHistoryWasLoadedAfterItWasSaved()
+            throws NotFoundException, SeatTakenException {
+        //Given
+        BookingRecordDto saved = new BookingRecordDto(1, Seat.parseList("5,5"), movie.getName(), room.getName(),
+                screeningTime, 1500);
+        when(bookingRepo.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(1);
+            when(bookingRepo.findHistory(user.getUsername())).thenReturn(List.of(saved));
+            underTest.bookingHistory(user.getUsername());
+            return booking;
+        });
+
+        //When
+        underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime, Seat.parseList("5,5"));
+
+        //Then
+        assertEquals(List.of(saved), underTest.bookingHistory(user.getUsername()));
+    }
+
+    @Test
+    public void testBookShouldThrowSeatTakenExceptionWhenTheSeatIsHeldByAnotherUser()
+            throws NotFoundException, SeatTakenException {
+        //Given
+        underTest.holdSeats(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,5"));
+
+        //When
+        SeatTakenException exception = assertThrows(SeatTakenException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                        screeningTime, Seat.parseList("5,6 5,5")));
+
+        //Then
+        assertEquals("Seat (5,5) is already taken", exception.getMessage());
+        verify(bookingRepo, never()).save(any(Booking.class));
+    }
+
+    @Test
+    public void testConfirmHoldShouldBookTheHeldSeatsWhenTheHoldHasNotExpired()
+            throws NotFoundException, SeatTakenException {
+        //Given
+        HoldDto holdDto = underTest.holdSeats(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,5 5,6"));
+        clock.set(Duration.ofMinutes(4).toNanos());
+
+        //When
+        BookingDto bookingDto = underTest.confirmHold(user.getUsername(), holdDto.id());
+
+        //Then
+        assertEquals(new BookingDto(Seat.parseList("5,5 5,6"), 3000), bookingDto);
+        verify(bookingRepo).save(new Booking(user, screening, "5,5 5,6", 3000));
+        assertThrows(NotFoundException.class, () -> underTest.confirmHold(user.getUsername(), holdDto.id()));
+    }
+
+    @Test
+    public void testBookShouldNotTakeHeldSeatsWhenTheSeatMapWasLoadedAgainDuringTheHold()
+            throws NotFoundException, SeatTakenException {
+        //Given
+        HoldDto holdDto = underTest.holdSeats(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,5"));
+        seatMapRegistry.evict(screening);
+
+        //When
+        SeatTakenException exception = assertThrows(SeatTakenException.class,
+                () -> underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                        Seat.parseList("5,5")));
+        BookingDto bookingDto = underTest.confirmHold(user.getUsername(), holdDto.id());
+
+        //Then
+        assertEquals("Seat (5,5) is already taken", exception.getMessage());
+        assertEquals(Seat.parseList("5,5"), bookingDto.seats());
+        verify(bookingRepo).save(new Booking(user, screening, "5,5", 1500));
+    }
+
+    @Test
+    public void testBookShouldTakeTheSeatsOfAHoldAsSoonAsItExpires() throws NotFoundException, SeatTakenException {
+        //Given
+        HoldDto holdDto = underTest.holdSeats(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,5"));
+        clock.set(Duration.ofMinutes(5).toNanos());
+
+        //When
+        BookingDto bookingDto = underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,5"));
+
+        //Then
+        assertEquals(Seat.parseList("5,5"), bookingDto.seats());
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> underTest.confirmHold(user.getUsername(), holdDto.id()));
+        assertEquals("The hold does not found.", exception.getMessage());
+    }
+
+    @Test
+    public void testBookBestShouldBookTheMiddleSeatsNextToTheTakenOnes() throws NotFoundException, SeatTakenException {
+        //Given
+        when(bookingRepo.findBookingsByScreening(screening))
+                .thenReturn(List.of(new Booking(user, screening, "10,5 10,6", 3000)));
+
+        //When
+        BookingDto bookingDto = underTest.bookBest(user.getUsername(), movie.getName(), room.getName(),
+                screeningTime, 2);
+
+        //Then
+        assertEquals(new BookingDto(Seat.parseList("11,5 11,6"), 3000), bookingDto);
+        verify(bookingRepo).save(new Booking(user, screening, "11,5 11,6", 3000));
+    }
+
+    @Test
+    public void testCancelBookingShouldFreeTheSeatsAndTakeTheBookingOffTheCounters() throws Exception {
+        //Given
+        occupancyCounters.addScreening(screening);
+        when(bookingRepo.findHistory(user.getUsername())).thenReturn(emptyList());
+        when(bookingRepo.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(1);
+            return booking;
+        });
+        when(bookingRepo.deleteBooking(1)).thenReturn(1);
+        underTest.bookingHistory(user.getUsername());
+        underTest.book(user.getUsername(), movie.getName(), room.getName(), screeningTime, Seat.parseList("5,5 5,6"));
+        OccupancyDto booked = occupancyCounters.room(room.getName());
+
+        //When
+        underTest.cancelBooking(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                Seat.parseList("5,6 5,5"));
+
+        //Then
+        assertEquals(new OccupancyDto(room.getName(), 1, 200, 2, 3000), booked);
+        assertEquals(new OccupancyDto(room.getName(), 1, 200, 0, 0), occupancyCounters.room(room.getName()));
+        assertEquals(emptyList(), underTest.bookingHistory(user.getUsername()));
+        assertEquals(Seat.parseList("5,5"), underTest.book(user.getUsername(), movie.getName(), room.getName(),
+                screeningTime, Seat.parseList("5,5")).seats());
+    }
+
+    @Test
+    public void testCancelBookingShouldThrowNotFoundExceptionWhenTheUserHasNoSuchBooking() {
+        //Given
+        when(bookingRepo.findHistory(user.getUsername())).thenReturn(List.of(new BookingRecordDto(1,
+                Seat.parseList("5,5"), movie.getName(), room.getName(), screeningTime, 1500)));
+
+        //When
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> underTest.cancelBooking(user.getUsername(), movie.getName(), room.getName(), screeningTime,
+                        Seat.parseList("5,6")));
+
+        //Then
+        assertEquals("The booking does not found.", exception.getMessage());
+        verify(bookingRepo, never()).deleteBooking(anyLong());
+    }
+}
@@ -1,14 +1,36 @@
 package core.service.impl;
 
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
 import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.event.DomainEvent;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
 import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.ScreeningCascade;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
 import com.epam.training.ticketservice.core.service.MovieService;
 import com.epam.training.ticketservice.core.service.impl.MovieServiceImpl;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -21,7 +43,19 @@ import static org.mockito.Mockito.*;
 public class MovieServiceImplTests {
 
     private final MovieRepo movieRepository = mock(MovieRepo.class);
-    private final MovieService underTest = new MovieServiceImpl(movieRepository);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final CatalogLookup catalogLookup = mock(CatalogLookup.class);
+    private final OperationJournal journal = mock(OperationJournal.class);
+    private final DomainEventBus eventBus = mock(DomainEventBus.class);
+    private final PriceAttachmentRepo priceAttachmentRepo = mock(PriceAttachmentRepo.class);
+    private final SeatMapRegistry seatMapRegistry = mock(SeatMapRegistry.class);
+    private final ScreeningSchedule screeningSchedule = mock(ScreeningSchedule.class);
+    private final OccupancyCounters occupancyCounters = new OccupancyCounters(screeningRepo, mock(BookingRepo.class),
+            mock(PlatformTransactionManager.class));
+    private final MovieService underTest = new MovieServiceImpl(movieRepository, screeningSchedule, catalogLookup,
+            journal, occupancyCounters, eventBus, new ScreeningCascade(screeningRepo,
+            priceAttachmentRepo, new RoomLocks(64, Duration.ofSeconds(5)), screeningSchedule, catalogLookup,
+            seatMapRegistry, mock(PriceCatalog.class)));
     private final String testName = "911";
     private final Movie movie = new Movie(testName, "action", 143);
     private final Movie updatedMovie = new Movie(testName, "horror", 876);
@@ -36,6 +70,7 @@ public class MovieServiceImplTests {
 
         //Then
         verify(movieRepository).save(any(Movie.class));
+        verify(journal).append(JournalOperation.CREATE_MOVIE, movie.getName(), movie.getGenre(), movie.getLength());
     }
 
     @Test
@@ -54,6 +89,7 @@ public class MovieServiceImplTests {
 
         //Then
         verify(movieRepository, never()).save(any(Movie.class));
+        verifyNoInteractions(journal);
     }
 
     @Test
@@ -67,6 +103,9 @@ public class MovieServiceImplTests {
 
         //Then
         verify(movieRepository).save(movie);
+        verify(catalogLookup).evictMovie(testName);
+        verify(eventBus).publish(new DomainEvent.MovieUpdated(testName, updatedMovie.getGenre(),
+                updatedMovie.getLength()));
     }
 
     @Test
@@ -88,23 +127,73 @@ public class MovieServiceImplTests {
     }
 
     @Test
-    public void testDeleteMovieShouldDeleteMovieWhenMovieDoesExist() throws NotFoundException {
+    public void testDeleteMovieShouldDeleteMovieAndItsScreeningsWhenMovieDoesExist() throws Exception {
         //Given
-        when(movieRepository.findByName(movie.getName())).thenReturn(Optional.of(movie));
-        doNothing().when(movieRepository).delete(movie);
+        when(catalogLookup.findMovie(movie.getName())).thenReturn(movie);
+        when(screeningRepo.deleteScreeningsOfMovie(movie)).thenReturn(1000);
+        when(movieRepository.deleteMovie(movie)).thenReturn(1);
 
         //When
         underTest.deleteMovie(movie.getName());
 
         //Then
         verify(movieRepository, never()).save(movie);
-        verify(movieRepository).delete(movie);
+        verify(movieRepository, never()).findByName(movie.getName());
+        verify(screeningRepo).deleteScreeningsOfMovie(movie);
+        verify(movieRepository).deleteMovie(movie);
+        verify(catalogLookup).evictMovie(testName);
+        verify(journal).append(JournalOperation.DELETE_MOVIE, testName);
     }
 
     @Test
-    public void testDeleteMovieShouldNotDeleteMovieWhenMovieDoesNotExist() {
+    public void testDeleteMovieShouldDropEverythingKeptPerScreeningWhenTheMovieHasScreenings() throws Exception {
         //Given
-        when(movieRepository.findByName(movie.getName())).thenReturn(Optional.empty());
+        Screening screening = new Screening(movie, new Room("Pedersoli", 10, 10), LocalDateTime.of(2021, 3, 15, 11, 0));
+        screening.setId(42);
+        when(catalogLookup.findMovie(movie.getName())).thenReturn(movie);
+        when(screeningRepo.findScreeningsByMovie(movie)).thenReturn(List.of(screening));
+        when(movieRepository.deleteMovie(movie)).thenReturn(1);
+
+        //When
+        underTest.deleteMovie(movie.getName());
+
+        //Then
+        verify(priceAttachmentRepo).deleteAttachments(PriceAttachment.TargetType.MOVIE, List.of(movie.getId()));
+        verify(priceAttachmentRepo).deleteAttachments(PriceAttachment.TargetType.SCREENING, List.of(42L));
+        verify(seatMapRegistry).evict(screening);
+        verify(screeningSchedule).evictAll();
+        verify(eventBus).publish(new DomainEvent.ScreeningDeleted(testName, "Pedersoli",
+                screening.getScreeningTime()));
+        verify(eventBus).publish(new DomainEvent.MovieDeleted(testName));
+    }
+
+    @Test
+    public void testDeleteMovieShouldLeaveNoTraceOutsideTheDatabaseWhenTheTransactionRollsBack() throws Exception {
+        //Given
+        when(catalogLookup.findMovie(movie.getName())).thenReturn(movie);
+        when(movieRepository.deleteMovie(movie)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        try {
+            underTest.deleteMovie(movie.getName());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        //Then
+        verify(movieRepository).deleteMovie(movie);
+        verify(catalogLookup).evictMovie(testName);
+        verifyNoInteractions(journal, eventBus);
+    }
+
+    @Test
+    public void testDeleteMovieShouldNotDeleteMovieWhenMovieDoesNotExist() throws NotFoundException {
+        //Given
+        when(catalogLookup.findMovie(movie.getName())).thenThrow(new NotFoundException("The movie does not found."));
 
         //When
         assertThrows(NotFoundException.class,
@@ -115,7 +204,9 @@ public class MovieServiceImplTests {
 
         //Then
         verify(movieRepository, never()).save(movie);
-        verify(movieRepository, never()).delete(movie);
+        verify(movieRepository, never()).deleteMovie(movie);
+        verify(screeningRepo, never()).deleteScreeningsOfMovie(movie);
+        verifyNoInteractions(journal);
     }
 
     @Test
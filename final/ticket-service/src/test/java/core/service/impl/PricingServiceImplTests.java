@@ -0,0 +1,174 @@
+package core.service.impl;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.BasePrice;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.PriceAttachment;
+import com.epam.training.ticketservice.core.model.PriceComponent;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.repository.BasePriceRepo;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
+import com.epam.training.ticketservice.core.repository.PriceComponentRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.service.impl.PricingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class PricingServiceImplTests {
+
+    private final PriceComponentRepo priceComponentRepo = mock(PriceComponentRepo.class);
+    private final PriceAttachmentRepo priceAttachmentRepo = mock(PriceAttachmentRepo.class);
+    private final BasePriceRepo basePriceRepo = mock(BasePriceRepo.class);
+    private final MovieRepo movieRepo = mock(MovieRepo.class);
+    private final RoomRepo roomRepo = mock(RoomRepo.class);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final PricingServiceImpl underTest = new PricingServiceImpl(
+            priceComponentRepo,
+            priceAttachmentRepo,
+            new PriceCatalog(basePriceRepo, priceAttachmentRepo),
+            new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100, Duration.ofMinutes(10)),
+            mock(OperationJournal.class)
+    );
+    private final Movie movie = new Movie("Sátántangó", "drama", 450);
+    private final Room room = new Room("Pedersoli", 20, 10);
+    private final LocalDateTime screeningTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+    private final Screening screening = new Screening(movie, room, screeningTime);
+    private final PriceComponent component = new PriceComponent("additionalFee", 100);
+
+    @BeforeEach
+    public void setUp() {
+        movie.setId(1);
+        room.setId(2);
+        screening.setId(3);
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(movie, room, screeningTime))
+                .thenReturn(Optional.of(screening));
+        when(priceComponentRepo.findByName(component.getName())).thenReturn(Optional.of(component));
+    }
+
+    @Test
+    public void testQuoteShouldUseDefaultBasePriceWhenNothingIsConfigured() throws NotFoundException {
+        //Given
+
+        //When
+        int price = underTest.quote(movie.getName(), room.getName(), screeningTime, 2);
+
+        //Then
+        assertEquals(2 * BasePrice.DEFAULT_AMOUNT, price);
+    }
+
+    @Test
+    public void testQuoteShouldUseUpdatedBasePrice() throws NotFoundException {
+        //Given
+        underTest.updateBasePrice(1000);
+
+        //When
+        int price = underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //Then
+        assertEquals(1000, price);
+        verify(basePriceRepo).save(any(BasePrice.class));
+    }
+
+    @Test
+    public void testQuoteShouldUseUpdatedBasePriceWhenItIsUpdatedWhileTheOldOneIsLoaded() throws NotFoundException {
+        //Given
+        when(basePriceRepo.findById(BasePrice.ID)).thenAnswer(invocation -> {
+            underTest.updateBasePrice(1000);
+            return Optional.empty();
+        });
+        underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //When
+        int price = underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //Then
+        assertEquals(1000, price);
+    }
+
+    @Test
+    public void testQuoteShouldCompileSurchargeOnlyOnceWhenNothingChanges() throws NotFoundException {
+        //Given
+        when(priceAttachmentRepo.sumAmountFor(1, 2, 3)).thenReturn(100L);
+
+        //When
+        underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+        int price = underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //Then
+        assertEquals(1600, price);
+        verify(priceAttachmentRepo, times(1)).sumAmountFor(1, 2, 3);
+    }
+
+    @Test
+    public void testAttachToMovieShouldRecompileSurchargeOfItsScreenings() throws NotFoundException {
+        //Given
+        underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+        when(priceAttachmentRepo.sumAmountFor(1, 2, 3)).thenReturn(100L);
+
+        //When
+        underTest.attachToMovie(component.getName(), movie.getName());
+        int price = underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //Then
+        assertEquals(1600, price);
+        verify(priceAttachmentRepo).save(new PriceAttachment(component, PriceAttachment.TargetType.MOVIE, 1));
+    }
+
+    @Test
+    public void testAttachToRoomShouldNotRecompileSurchargeOfOtherRooms() throws NotFoundException {
+        //Given
+        Room otherRoom = new Room("Girotti", 10, 10);
+        otherRoom.setId(5);
+        when(roomRepo.findByName(otherRoom.getName())).thenReturn(Optional.of(otherRoom));
+        underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //When
+        underTest.attachToRoom(component.getName(), otherRoom.getName());
+        underTest.quote(movie.getName(), room.getName(), screeningTime, 1);
+
+        //Then
+        verify(priceAttachmentRepo, times(1)).sumAmountFor(1, 2, 3);
+    }
+
+    @Test
+    public void testAttachToScreeningShouldThrowNotFoundExceptionWhenComponentDoesNotExist() {
+        //Given
+        when(priceComponentRepo.findByName("missing")).thenReturn(Optional.empty());
+
+        //When
+        assertThrows(NotFoundException.class,
+                () -> underTest.attachToScreening("missing", movie.getName(), room.getName(), screeningTime));
+
+        //Then
+        verify(priceAttachmentRepo, never()).save(any(PriceAttachment.class));
+    }
+
+    @Test
+    public void testCreatePriceComponentShouldThrowAlreadyExistsExceptionWhenNameIsTaken() {
+        //Given
+
+        //When
+        assertThrows(AlreadyExistsException.class,
+                () -> underTest.createPriceComponent(component.getName(), 200));
+
+        //Then
+        verify(priceComponentRepo, never()).save(any(PriceComponent.class));
+    }
+}
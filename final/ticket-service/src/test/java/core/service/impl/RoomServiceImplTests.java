@@ -1,14 +1,28 @@
 package core.service.impl;
 
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
 import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
 import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.pricing.PriceCatalog;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.BookingRepo;
+import com.epam.training.ticketservice.core.repository.PriceAttachmentRepo;
 import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.ScreeningCascade;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
 import com.epam.training.ticketservice.core.service.RoomService;
 import com.epam.training.ticketservice.core.service.impl.RoomServiceImpl;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +36,14 @@ import static org.mockito.Mockito.*;
 public class RoomServiceImplTests {
 
     private final RoomRepo roomRepo = mock(RoomRepo.class);
-    private final RoomService underTest = new RoomServiceImpl(roomRepo);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final CatalogLookup catalogLookup = mock(CatalogLookup.class);
+    private final OccupancyCounters occupancyCounters = new OccupancyCounters(screeningRepo, mock(BookingRepo.class),
+            mock(PlatformTransactionManager.class));
+    private final RoomService underTest = new RoomServiceImpl(roomRepo, catalogLookup, mock(OperationJournal.class),
+            occupancyCounters, mock(DomainEventBus.class), new ScreeningCascade(screeningRepo,
+            mock(PriceAttachmentRepo.class), new RoomLocks(64, Duration.ofSeconds(5)), mock(ScreeningSchedule.class),
+            catalogLookup, mock(SeatMapRegistry.class), mock(PriceCatalog.class)));
     private final String testName = "Tom Hardy Room";
     private final Room room = new Room(testName, 40, 30);
     private final Room updatedRoom = new Room(testName, 400, 300);
@@ -68,6 +89,7 @@ public class RoomServiceImplTests {
 
         //Then
         verify(roomRepo).save(room);
+        verify(catalogLookup).evictRoom(testName);
     }
 
     @Test
@@ -89,23 +111,27 @@ public class RoomServiceImplTests {
     }
 
     @Test
-    public void testDeleteRoomShouldDeleteRoomWhenRoomDoesExist() throws NotFoundException {
+    public void testDeleteRoomShouldDeleteRoomAndItsScreeningsWhenRoomDoesExist() throws Exception {
         //Given
-        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
-        doNothing().when(roomRepo).delete(room);
+        when(catalogLookup.findRoom(room.getName())).thenReturn(room);
+        when(screeningRepo.deleteScreeningsOfRoom(room)).thenReturn(1000);
+        when(roomRepo.deleteRoom(room)).thenReturn(1);
 
         //When
         underTest.deleteRoom(room.getName());
 
         //Then
         verify(roomRepo, never()).save(room);
-        verify(roomRepo).delete(room);
+        verify(roomRepo, never()).findByName(room.getName());
+        verify(screeningRepo).deleteScreeningsOfRoom(room);
+        verify(roomRepo).deleteRoom(room);
+        verify(catalogLookup).evictRoom(testName);
     }
 
     @Test
-    public void testDeleteRoomShouldNotDeleteRoomWhenRoomDoesNotExist() {
+    public void testDeleteRoomShouldNotDeleteRoomWhenRoomDoesNotExist() throws NotFoundException {
         //Given
-        when(roomRepo.findByName(room.getName())).thenReturn(Optional.empty());
+        when(catalogLookup.findRoom(room.getName())).thenThrow(new NotFoundException("The room does not found."));
 
         //When
         assertThrows(NotFoundException.class,
@@ -116,7 +142,8 @@ public class RoomServiceImplTests {
 
         //Then
         verify(roomRepo, never()).save(room);
-        verify(roomRepo, never()).delete(room);
+        verify(roomRepo, never()).deleteRoom(room);
+        verify(screeningRepo, never()).deleteScreeningsOfRoom(room);
     }
 
     @Test
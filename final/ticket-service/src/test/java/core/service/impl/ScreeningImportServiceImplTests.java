@@ -0,0 +1,105 @@
+package core.service.impl;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.ImportResultDto;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import com.epam.training.ticketservice.core.service.impl.ScreeningImportServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class ScreeningImportServiceImplTests {
+
+    private final MovieRepo movieRepo = mock(MovieRepo.class);
+    private final RoomRepo roomRepo = mock(RoomRepo.class);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final ScreeningImportServiceImpl underTest = new ScreeningImportServiceImpl(
+            screeningRepo,
+            new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100, Duration.ofMinutes(10)),
+            new ScreeningSchedule(screeningRepo),
+            mock(OperationJournal.class),
+            new RoomLocks(64, Duration.ofSeconds(5)),
+            mock(OccupancyCounters.class),
+            mock(DomainEventBus.class)
+    );
+    private final Movie movie = new Movie("Spirited Away", "animation", 125);
+    private final Room room = new Room("Pedersoli", 20, 10);
+
+    @Test
+    public void testImportScreeningsShouldSaveEveryRowWhenThereAreNoConflicts() throws IOException {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(emptyList());
+        when(screeningRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //When
+        ImportResultDto result = underTest.importScreenings(reader(
+                "movie,room,screening time",
+                "\"Spirited Away\",Pedersoli,2021-03-14 16:00",
+                "Spirited Away,Pedersoli,2021-03-14 20:00",
+                "",
+                "Spirited Away,Pedersoli,2021-03-15 16:00"
+        ));
+
+        //Then
+        assertEquals(3, result.imported());
+        assertEquals(emptyList(), result.rejectedRows());
+        verify(movieRepo, times(1)).findByName(movie.getName());
+        verify(roomRepo, times(1)).findByName(room.getName());
+        verify(screeningRepo, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    public void testImportScreeningsShouldRejectRowsWithTheMessagesOfCreateScreening() throws IOException {
+        //Given
+        Screening existing = new Screening(movie, room, LocalDateTime.of(2021, 3, 14, 10, 0));
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(roomRepo.findByName("Girotti")).thenReturn(Optional.empty());
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(existing));
+        when(screeningRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //When
+        ImportResultDto result = underTest.importScreenings(reader(
+                "Spirited Away,Pedersoli,2021-03-14 11:00",
+                "Spirited Away,Pedersoli,2021-03-14 16:00",
+                "Spirited Away,Pedersoli,2021-03-14 18:10",
+                "Spirited Away,Girotti,2021-03-14 16:00",
+                "Spirited Away,Pedersoli,tomorrow"
+        ));
+
+        //Then
+        assertEquals(1, result.imported());
+        assertEquals(List.of(
+                "Line 1: There is an extending screening",
+                "Line 3: This would start in the break period after another screening in this room",
+                "Line 4: The given room does not found",
+                "Line 5: Invalid screening time tomorrow"
+        ), result.rejectedRows());
+    }
+
+    private static BufferedReader reader(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
@@ -1,26 +1,57 @@
 package core.service.impl;
 
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.FreeSlotDto;
 import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.dto.ScreeningFilterDto;
+import com.epam.training.ticketservice.core.event.DomainEventBus;
+import com.epam.training.ticketservice.core.exceptions.BreakStageException;
+import com.epam.training.ticketservice.core.exceptions.ExtendingException;
 import com.epam.training.ticketservice.core.exceptions.NotFoundException;
+import com.epam.training.ticketservice.core.exceptions.RoomBusyException;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.report.OccupancyCounters;
 import com.epam.training.ticketservice.core.repository.MovieRepo;
 import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningCriteria;
 import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomLocks;
+import com.epam.training.ticketservice.core.schedule.RoomTimeline;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
 import com.epam.training.ticketservice.core.service.impl.ScreeningServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class ScreeningServiceImplTests {
@@ -30,8 +61,13 @@ public class ScreeningServiceImplTests {
     private final ScreeningRepo screeningRepo = Mockito.mock(ScreeningRepo.class);
     private final ScreeningServiceImpl underTest = new ScreeningServiceImpl(
             screeningRepo,
-            movieRepo,
-            roomRepo
+            roomRepo,
+            new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100, Duration.ofMinutes(10)),
+            new ScreeningSchedule(screeningRepo),
+            new OperationJournal(false, null, 1),
+            new RoomLocks(64, Duration.ofSeconds(5)),
+            mock(OccupancyCounters.class),
+            mock(DomainEventBus.class)
     );
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private final Movie movie = new Movie("Cars", "Animation", 130);
@@ -45,17 +81,347 @@ public class ScreeningServiceImplTests {
             )
     );
 
+    @BeforeEach
+    public void setUp() {
+        when(screeningRepo.save(any(Screening.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void testCreateScreeningShouldSaveScreeningWhenRoomIsFree()
+            throws ExtendingException, BreakStageException, NotFoundException, RoomBusyException {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(emptyList());
+
+        //When
+        underTest.createScreening(movie.getName(), room.getName(), screening.getScreeningTime());
+
+        //Then
+        verify(screeningRepo).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldThrowExtendingExceptionWhenScreeningsOverlap() {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+
+        //When
+        ExtendingException exception = assertThrows(ExtendingException.class,
+                () -> underTest.createScreening(
+                        movie.getName(),
+                        room.getName(),
+                        screening.getScreeningTime().plusMinutes(30))
+        );
+
+        //Then
+        assertEquals("There is an extending screening", exception.getMessage());
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldThrowExtendingExceptionWhenScreeningContainsAnother() {
+        //Given
+        Movie shortMovie = new Movie("Short", "Animation", 10);
+        Screening shortScreening = new Screening(shortMovie, room, screening.getScreeningTime().plusMinutes(30));
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(shortScreening));
+
+        //When
+        assertThrows(ExtendingException.class,
+                () -> underTest.createScreening(movie.getName(), room.getName(), screening.getScreeningTime())
+        );
+
+        //Then
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldThrowBreakStageExceptionWhenScreeningStartsInBreak() {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+
+        //When
+        BreakStageException exception = assertThrows(BreakStageException.class,
+                () -> underTest.createScreening(
+                        movie.getName(),
+                        room.getName(),
+                        screening.getScreeningTime().plusMinutes(movie.getLength() + 5))
+        );
+
+        //Then
+        assertEquals("This would start in the break period after another screening in this room",
+                exception.getMessage());
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldThrowBreakStageExceptionWhenScreeningEndsInBreakBeforeAnother() {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+
+        //When
+        assertThrows(BreakStageException.class,
+                () -> underTest.createScreening(
+                        movie.getName(),
+                        room.getName(),
+                        screening.getScreeningTime().minusMinutes(movie.getLength() + 5))
+        );
+
+        //Then
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldCheckEveryScreeningOfTheRoom() {
+        //Given
+        List<Screening> screenings = new ArrayList<>();
+        for (int day = 0; day < 100; day++) {
+            screenings.add(new Screening(movie, room, screening.getScreeningTime().plusDays(day)));
+        }
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(screenings);
+
+        //When
+        assertThrows(ExtendingException.class,
+                () -> underTest.createScreening(
+                        movie.getName(),
+                        room.getName(),
+                        screening.getScreeningTime().plusDays(57).minusMinutes(1))
+        );
+
+        //Then
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testCreateScreeningShouldAllowScreeningAgainWhenConflictingScreeningIsDeleted() throws Exception {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+        when(screeningRepo.deleteScreening(movie, room, screening.getScreeningTime())).thenReturn(1);
+        assertThrows(ExtendingException.class,
+                () -> underTest.createScreening(movie.getName(), room.getName(), screening.getScreeningTime())
+        );
+
+        //When
+        underTest.deleteScreening(movie.getName(), room.getName(), screening.getScreeningTime());
+        underTest.createScreening(movie.getName(), room.getName(), screening.getScreeningTime());
+
+        //Then
+        verify(screeningRepo).save(any(Screening.class));
+        verify(screeningRepo).findScreeningsByRoom(room);
+    }
+
+    @Test
+    public void testCreateScreeningShouldNeverSaveOverlappingScreeningsWhenCreationsRace() throws Exception {
+        //Given
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Room parallelRoom = new Room("Room " + i, 10, 10);
+            parallelRoom.setId(i);
+            rooms.add(parallelRoom);
+            when(roomRepo.findByName(parallelRoom.getName())).thenReturn(Optional.of(parallelRoom));
+            when(screeningRepo.findScreeningsByRoom(parallelRoom)).thenReturn(emptyList());
+        }
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        AtomicLong ids = new AtomicLong();
+        Queue<Screening> savedScreenings = new ConcurrentLinkedQueue<>();
+        when(screeningRepo.save(any(Screening.class))).thenAnswer(invocation -> {
+            Screening saved = invocation.getArgument(0);
+            Thread.sleep(1);
+            saved.setId(ids.incrementAndGet());
+            savedScreenings.add(saved);
+            return saved;
+        });
+        int creators = 256;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //When
+        for (int i = 0; i < creators; i++) {
+            Room parallelRoom = rooms.get(i % rooms.size());
+            LocalDateTime screeningTime = screening.getScreeningTime().plusMinutes(20L * (i % 32));
+            executor.submit(() -> {
+                start.await();
+                try {
+                    underTest.createScreening(movie.getName(), parallelRoom.getName(), screeningTime);
+                } catch (ExtendingException | BreakStageException ignored) {
+                    // losing the race is an expected outcome
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        //Then
+        Map<Room, List<Screening>> savedByRoom = savedScreenings.stream()
+                .collect(Collectors.groupingBy(Screening::getRoom));
+        assertEquals(rooms.size(), savedByRoom.size());
+        for (List<Screening> saved : savedByRoom.values()) {
+            RoomTimeline timeline = new RoomTimeline();
+            for (Screening savedScreening : saved) {
+                long savedStart = RoomTimeline.toSeconds(savedScreening.getScreeningTime());
+                assertEquals(RoomTimeline.Conflict.NONE,
+                        timeline.findConflict(savedStart, RoomTimeline.endOf(savedStart, movie.getLength())));
+                timeline.add(savedScreening);
+            }
+        }
+    }
+
+    @Test
+    public void testCreateScreeningShouldRetrySaveWhenTheDatabaseFailsTransiently() throws Exception {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(emptyList());
+        List<Screening> attempts = new ArrayList<>();
+        when(screeningRepo.save(any(Screening.class))).thenAnswer(invocation -> {
+            Screening attempt = invocation.getArgument(0);
+            attempts.add(attempt);
+            if (attempts.size() == 1) {
+                attempt.setId(1);
+                throw new QueryTimeoutException("Lock timeout");
+            }
+            return attempt;
+        });
+
+        //When
+        underTest.createScreening(movie.getName(), room.getName(), screening.getScreeningTime());
+
+        //Then
+        verify(screeningRepo, times(2)).save(any(Screening.class));
+        assertEquals(0, attempts.get(1).getId());
+        assertEquals(screening.getScreeningTime(), attempts.get(1).getScreeningTime());
+    }
+
+    @Test
+    public void testCreateScreeningShouldThrowRoomBusyExceptionWhenTheRoomStaysLocked() throws Exception {
+        //Given
+        RoomLocks roomLocks = new RoomLocks(64, Duration.ofMillis(50));
+        ScreeningServiceImpl impatient = new ScreeningServiceImpl(
+                screeningRepo,
+                roomRepo,
+                new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100, Duration.ofMinutes(10)),
+                new ScreeningSchedule(screeningRepo),
+                new OperationJournal(false, null, 1),
+                roomLocks,
+                mock(OccupancyCounters.class),
+                mock(DomainEventBus.class)
+        );
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            try (RoomLocks.Held lock = roomLocks.lock(room)) {
+                locked.countDown();
+                release.await();
+            }
+            return null;
+        });
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        //When
+        RoomBusyException exception = assertThrows(RoomBusyException.class,
+                () -> impatient.createScreening(movie.getName(), room.getName(), screening.getScreeningTime()));
+        release.countDown();
+        executor.shutdown();
+
+        //Then
+        assertEquals("The schedule of room Star Wars is busy, please try again", exception.getMessage());
+        verify(screeningRepo, never()).save(any(Screening.class));
+    }
+
+    @Test
+    public void testFindSlotsShouldReturnTheStartTimesThatKeepTheBreakInEveryRoom() throws NotFoundException {
+        //Given
+        Room emptyRoom = new Room("Apollo", 10, 10);
+        emptyRoom.setId(1);
+        room.setId(2);
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findAll()).thenReturn(List.of(room, emptyRoom));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+        when(screeningRepo.findScreeningsByRoom(emptyRoom)).thenReturn(emptyList());
+        LocalDateTime from = LocalDateTime.parse("2023-11-26 14:00", dateTimeFormatter);
+        LocalDateTime to = LocalDateTime.parse("2023-11-27 02:00", dateTimeFormatter);
+        LocalDateTime latestStart = to.minusMinutes(movie.getLength());
+
+        //When
+        List<FreeSlotDto> slots = underTest.findSlots(movie.getName(), from, to, null);
+
+        //Then
+        LocalDateTime lastBefore = screening.getScreeningTime().minusMinutes(movie.getLength() + 10);
+        LocalDateTime firstAfter = screening.getScreeningTime().plusMinutes(movie.getLength() + 10);
+        assertEquals(List.of(
+                new FreeSlotDto(emptyRoom.getName(), from, latestStart),
+                new FreeSlotDto(room.getName(), from, lastBefore),
+                new FreeSlotDto(room.getName(), firstAfter, latestStart)
+        ), slots);
+        RoomTimeline timeline = RoomTimeline.of(List.of(screening));
+        for (LocalDateTime start : List.of(lastBefore, firstAfter)) {
+            long seconds = RoomTimeline.toSeconds(start);
+            assertEquals(RoomTimeline.Conflict.NONE,
+                    timeline.findConflict(seconds, RoomTimeline.endOf(seconds, movie.getLength())));
+        }
+        for (LocalDateTime start : List.of(lastBefore.plusMinutes(1), firstAfter.minusMinutes(1))) {
+            long seconds = RoomTimeline.toSeconds(start);
+            assertEquals(RoomTimeline.Conflict.BREAK,
+                    timeline.findConflict(seconds, RoomTimeline.endOf(seconds, movie.getLength())));
+        }
+    }
+
+    @Test
+    public void testFindSlotsShouldOnlySearchTheGivenRoomWhenARoomIsGiven() throws NotFoundException {
+        //Given
+        when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningsByRoom(room)).thenReturn(List.of(screening));
+
+        //When
+        List<FreeSlotDto> slots = underTest.findSlots(movie.getName(), screening.getScreeningTime(),
+                screening.getScreeningTime().plusHours(4), room.getName());
+
+        //Then
+        assertEquals(emptyList(), slots);
+        verify(roomRepo, never()).findAll();
+    }
+
+    @Test
+    public void testFindSlotsShouldThrowNotFoundExceptionWhenMovieDoesNotExist() {
+        //Given
+
+        //When
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> underTest.findSlots(movie.getName(), screening.getScreeningTime(),
+                        screening.getScreeningTime().plusDays(7), null));
+
+        //Then
+        assertEquals("The movie does not found.", exception.getMessage());
+    }
+
     @Test
-    public void testDeleteScreeningShouldDeleteScreeningWhenScreeningExists() throws NotFoundException {
+    public void testDeleteScreeningShouldDeleteScreeningWhenScreeningExists() throws Exception {
         //Given
         when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
         when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
-        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
+        when(screeningRepo.deleteScreening(
                 screening.getMovie(),
                 screening.getRoom(),
                 screening.getScreeningTime())
-        ).thenReturn(Optional.of(screening));
-        doNothing().when(screeningRepo).delete(screening);
+        ).thenReturn(1);
 
         //When
         underTest.deleteScreening(
@@ -66,7 +432,8 @@ public class ScreeningServiceImplTests {
 
         //Then
         verify(screeningRepo, never()).save(screening);
-        verify(screeningRepo).delete(screening);
+        verify(screeningRepo).deleteScreening(movie, room, screening.getScreeningTime());
+        verify(screeningRepo, never()).findScreeningByMovieAndRoomAndScreeningTime(any(), any(), any());
     }
 
     @Test
@@ -74,11 +441,11 @@ public class ScreeningServiceImplTests {
         //Given
         when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
         when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
-        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
+        when(screeningRepo.deleteScreening(
                 screening.getMovie(),
                 screening.getRoom(),
                 screening.getScreeningTime())
-        ).thenReturn(Optional.empty());
+        ).thenReturn(0);
 
         //When
         assertThrows(NotFoundException.class,
@@ -90,17 +457,17 @@ public class ScreeningServiceImplTests {
 
         //Then
         verify(screeningRepo, never()).save(screening);
-        verify(screeningRepo, never()).delete(screening);
+        verify(screeningRepo, never()).delete(any(Screening.class));
     }
 
     @Test
     public void testDeleteScreeningShouldReturnDoesNotExistExceptionWhenMovieAndRoomDoNotExist() {
         //Given
-        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
+        when(screeningRepo.deleteScreening(
                 screening.getMovie(),
                 screening.getRoom(),
-                screening.getScreeningTime()
-        )).thenReturn(Optional.empty());
+                screening.getScreeningTime())
+        ).thenReturn(0);
 
         //When
         assertThrows(NotFoundException.class,
@@ -112,18 +479,18 @@ public class ScreeningServiceImplTests {
 
         //Then
         verify(screeningRepo, never()).save(screening);
-        verify(screeningRepo, never()).delete(screening);
+        verify(screeningRepo, never()).delete(any(Screening.class));
     }
 
     @Test
     public void testDeleteScreeningShouldReturnDoesNotExistExceptionWhenRoomDoesNotExist() {
         //Given
         when(movieRepo.findByName(movie.getName())).thenReturn(Optional.of(movie));
-        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(
+        when(screeningRepo.deleteScreening(
                 screening.getMovie(),
                 screening.getRoom(),
-                screening.getScreeningTime()
-        )).thenReturn(Optional.empty());
+                screening.getScreeningTime())
+        ).thenReturn(0);
 
         //When
         assertThrows(NotFoundException.class,
@@ -135,16 +502,18 @@ public class ScreeningServiceImplTests {
 
         //Then
         verify(screeningRepo, never()).save(screening);
-        verify(screeningRepo, never()).delete(screening);
+        verify(screeningRepo, never()).delete(any(Screening.class));
     }
 
     @Test
     public void testDeleteScreeningShouldReturnDoesNotExistExceptionWhenAMovieDoesNotExist() {
         //Given
         when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
-        when(screeningRepo.findScreeningByMovieAndRoomAndScreeningTime(screening.getMovie(), screening.getRoom(),
+        when(screeningRepo.deleteScreening(
+                screening.getMovie(),
+                screening.getRoom(),
                 screening.getScreeningTime())
-        ).thenReturn(Optional.empty());
+        ).thenReturn(0);
 
         //When
         assertThrows(NotFoundException.class,
@@ -155,19 +524,21 @@ public class ScreeningServiceImplTests {
 
         //Then
         verify(screeningRepo, never()).save(screening);
-        verify(screeningRepo, never()).delete(screening);
+        verify(screeningRepo, never()).delete(any(Screening.class));
     }
 
     @Test
     public void testScreeningListShouldReturnScreeningListWhenThereAreScreenings() {
         //Given
-        Mockito.when(screeningRepo.findAll()).thenReturn(Collections.singletonList(screening));
+        Mockito.when(screeningRepo.findScreeningDtos())
+                .thenReturn(Collections.singletonList(new ScreeningDto(screening)));
 
         //When
         List<ScreeningDto> screeningDtoList = underTest.screeningList();
 
         //Then
-        Mockito.verify(screeningRepo).findAll();
+        Mockito.verify(screeningRepo).findScreeningDtos();
+        Mockito.verify(screeningRepo, never()).findAll();
         assertEquals(1, screeningDtoList.size());
         assertEquals(screening.getMovie().getName(), screeningDtoList.get(0).getMovieDto().getName());
         assertEquals(screening.getRoom().getName(), screeningDtoList.get(0).getRoomDto().getName());
@@ -184,4 +555,93 @@ public class ScreeningServiceImplTests {
         // Then
         assertEquals(emptyList(), screeningDtoList);
     }
+
+    @Test
+    public void testScreeningPageShouldQueryTheRequestedSliceWhenPageIsValid() {
+        //Given
+        ScreeningDto screeningDto = new ScreeningDto(screening);
+        when(screeningRepo.findScreeningDtos(PageRequest.of(1, 10)))
+                .thenReturn(new SliceImpl<>(List.of(screeningDto)));
+
+        //When
+        List<ScreeningDto> screeningDtoList = underTest.screeningPage(2, 10);
+
+        //Then
+        assertEquals(List.of(screeningDto), screeningDtoList);
+    }
+
+    @Test
+    public void testScreeningPageShouldThrowIllegalArgumentExceptionWhenPageIsNotPositive() {
+        //Given
+
+        //When
+        assertThrows(IllegalArgumentException.class, () -> underTest.screeningPage(0, 10));
+
+        //Then
+        verify(screeningRepo, never()).findScreeningDtos(any(Pageable.class));
+    }
+
+    @Test
+    public void testForEachScreeningShouldVisitEveryScreeningAndCloseTheStream() {
+        //Given
+        List<String> closed = new ArrayList<>();
+        ScreeningDto screeningDto = new ScreeningDto(screening);
+        when(screeningRepo.streamScreeningDtos())
+                .thenReturn(Stream.of(screeningDto, screeningDto).onClose(() -> closed.add("closed")));
+        List<ScreeningDto> visited = new ArrayList<>();
+
+        //When
+        underTest.forEachScreening(visited::add);
+
+        //Then
+        assertEquals(List.of(screeningDto, screeningDto), visited);
+        assertEquals(List.of("closed"), closed);
+    }
+
+    @Test
+    public void testScreeningPageShouldQueryTheResolvedRoomAndPeriodWhenAFilterIsGiven() throws NotFoundException {
+        //Given
+        ScreeningDto screeningDto = new ScreeningDto(screening);
+        LocalDateTime from = screening.getScreeningTime().toLocalDate().atStartOfDay();
+        when(roomRepo.findByName(room.getName())).thenReturn(Optional.of(room));
+        when(screeningRepo.findScreeningDtos(new ScreeningCriteria(null, room, null, from, from.plusDays(1)),
+                PageRequest.of(0, 10))).thenReturn(List.of(screeningDto));
+
+        //When
+        List<ScreeningDto> screeningDtoList = underTest.screeningPage(
+                new ScreeningFilterDto(null, room.getName(), null, from, from.plusDays(1)), 1, 10);
+
+        //Then
+        assertEquals(List.of(screeningDto), screeningDtoList);
+        verify(movieRepo, never()).findByName(anyString());
+    }
+
+    @Test
+    public void testScreeningListShouldThrowNotFoundExceptionWhenTheFilteredMovieDoesNotExist() {
+        //Given
+
+        //When
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> underTest.screeningList(new ScreeningFilterDto(movie.getName(), null, null, null, null)));
+
+        //Then
+        assertEquals("The movie does not found.", exception.getMessage());
+        verify(screeningRepo, never()).findScreeningDtos(any(ScreeningCriteria.class), any(Pageable.class));
+    }
+
+    @Test
+    public void testForEachScreeningShouldStreamTheMatchingScreeningsWhenAGenreIsGiven() throws NotFoundException {
+        //Given
+        ScreeningDto screeningDto = new ScreeningDto(screening);
+        when(screeningRepo.streamScreeningDtos(new ScreeningCriteria(null, null, movie.getGenre(), null, null)))
+                .thenReturn(Stream.of(screeningDto));
+        List<ScreeningDto> visited = new ArrayList<>();
+
+        //When
+        underTest.forEachScreening(new ScreeningFilterDto(null, null, movie.getGenre(), null, null), visited::add);
+
+        //Then
+        assertEquals(List.of(screeningDto), visited);
+        verify(screeningRepo, never()).streamScreeningDtos();
+    }
 }
@@ -1,11 +1,18 @@
 package core.service.impl;
 
 import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.exceptions.AlreadyExistsException;
+import com.epam.training.ticketservice.core.journal.JournalOperation;
+import com.epam.training.ticketservice.core.journal.OperationJournal;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.repository.UserRepo;
+import com.epam.training.ticketservice.core.security.PasswordHasher;
 import com.epam.training.ticketservice.core.service.impl.UserServiceImpl;
+import com.epam.training.ticketservice.core.session.SessionRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,7 +21,10 @@ import static org.mockito.Mockito.*;
 public class UserServiceImplTests {
 
     private final UserRepo userRepo = mock(UserRepo.class);
-    private final UserServiceImpl underTest = new UserServiceImpl(userRepo);
+    private final OperationJournal journal = mock(OperationJournal.class);
+    private final UserServiceImpl underTest = new UserServiceImpl(userRepo,
+            new SessionRegistry(100, Duration.ofMinutes(30)), journal);
+    private final String sessionId = "session";
     User testAdmin = new User("admin", "admin", User.Role.ADMIN);
     User testUser = new User("test", "test", User.Role.USER);
 
@@ -24,7 +34,7 @@ public class UserServiceImplTests {
         when(userRepo.findByUsername(testAdmin.getUsername())).thenReturn(Optional.of(testAdmin));
 
         //When
-        Optional<UserDto> actual = underTest.login(testAdmin.getUsername(), testAdmin.getPassword());
+        Optional<UserDto> actual = underTest.login(sessionId, testAdmin.getUsername(), testAdmin.getPassword());
 
         //Then
         assertTrue(actual.isPresent());
@@ -40,7 +50,7 @@ public class UserServiceImplTests {
         when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.empty());
 
         //When
-        Optional<UserDto> actual = underTest.login(testUser.getUsername(), testUser.getPassword());
+        Optional<UserDto> actual = underTest.login(sessionId, testUser.getUsername(), testUser.getPassword());
 
         //Then
         assertEquals(excepted, actual);
@@ -53,7 +63,7 @@ public class UserServiceImplTests {
         when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
 
         //When
-        Optional<UserDto> actual = underTest.login(testUser.getUsername(), "resu");
+        Optional<UserDto> actual = underTest.login(sessionId, testUser.getUsername(), "resu");
 
         //Then
         assertTrue(actual.isEmpty());
@@ -73,36 +83,105 @@ public class UserServiceImplTests {
     }
 
     @Test
-    public void testLogoutShouldReturnOptionalEmptyWhenUserIsNotSignedIn(){
+    public void testSignInShouldSetLoggedInUserWhenUserCredentialsAreCorrect() {
         //Given
-        Optional<UserDto> userDtoOptionalEmpty = Optional.empty();
+        when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
 
         //When
-        Optional<UserDto> userDtoOptionalUnderTest = underTest.logout();
+        Optional<UserDto> actual = underTest.signIn(sessionId, testUser.getUsername(), testUser.getPassword());
 
         //Then
-        assertEquals(userDtoOptionalEmpty, userDtoOptionalUnderTest);
+        assertTrue(actual.isPresent());
+        assertEquals(User.Role.USER, actual.get().role());
+        assertEquals(actual, underTest.describeAccount(sessionId));
     }
 
+    @Test
+    public void testSignInShouldReturnOptionalEmptyWhenUserIsAdmin() {
+        //Given
+        when(userRepo.findByUsername(testAdmin.getUsername())).thenReturn(Optional.of(testAdmin));
 
+        //When
+        Optional<UserDto> actual = underTest.signIn(sessionId, testAdmin.getUsername(), testAdmin.getPassword());
 
+        //Then
+        assertTrue(actual.isEmpty());
+        assertTrue(underTest.describeAccount(sessionId).isEmpty());
+    }
 
+    @Test
+    public void testSignUpShouldSaveUserWhenUsernameIsFree() throws AlreadyExistsException {
+        //Given
+        when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.empty());
 
+        //When
+        underTest.signUp(testUser.getUsername(), testUser.getPassword());
 
+        //Then
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepo).save(saved.capture());
+        assertEquals(testUser.getUsername(), saved.getValue().getUsername());
+        assertEquals(User.Role.USER, saved.getValue().getRole());
+        assertTrue(PasswordHasher.isHash(saved.getValue().getPassword()));
+        assertTrue(PasswordHasher.matches(testUser.getPassword(), saved.getValue().getPassword()));
+        verify(journal).append(JournalOperation.SIGN_UP, testUser.getUsername(), saved.getValue().getPassword());
+    }
 
+    @Test
+    public void testSignInShouldSetLoggedInUserWhenThePasswordMatchesTheStoredHash() {
+        //Given
+        User hashedUser = new User("test", PasswordHasher.hash("test"), User.Role.USER);
+        when(userRepo.findByUsername(hashedUser.getUsername())).thenReturn(Optional.of(hashedUser));
 
+        //When
+        Optional<UserDto> wrongPassword = underTest.signIn(sessionId, hashedUser.getUsername(), "tset");
+        Optional<UserDto> actual = underTest.signIn(sessionId, hashedUser.getUsername(), "test");
 
+        //Then
+        assertTrue(wrongPassword.isEmpty());
+        assertTrue(actual.isPresent());
+    }
 
+    @Test
+    public void testSignUpShouldThrowAlreadyExistsExceptionWhenUsernameIsTaken() {
+        //Given
+        when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
 
+        //When
+        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class,
+                () -> underTest.signUp(testUser.getUsername(), testUser.getPassword()));
 
+        //Then
+        assertEquals("The user already exists.", exception.getMessage());
+        verify(userRepo, never()).save(any(User.class));
+    }
 
+    @Test
+    public void testLogoutShouldReturnOptionalEmptyWhenUserIsNotSignedIn(){
+        //Given
+        Optional<UserDto> userDtoOptionalEmpty = Optional.empty();
 
+        //When
+        Optional<UserDto> userDtoOptionalUnderTest = underTest.logout(sessionId);
 
+        //Then
+        assertEquals(userDtoOptionalEmpty, userDtoOptionalUnderTest);
+    }
 
+    @Test
+    public void testDescribeAccountShouldReturnTheUserOfTheGivenSessionWhenSeveralUsersAreSignedIn() {
+        //Given
+        when(userRepo.findByUsername(testAdmin.getUsername())).thenReturn(Optional.of(testAdmin));
+        when(userRepo.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
+        underTest.login(sessionId, testAdmin.getUsername(), testAdmin.getPassword());
+        underTest.signIn("other session", testUser.getUsername(), testUser.getPassword());
 
+        //When
+        underTest.logout("other session");
 
-
-
-
-
+        //Then
+        assertEquals(Optional.of(new UserDto(testAdmin.getUsername(), User.Role.ADMIN)),
+                underTest.describeAccount(sessionId));
+        assertTrue(underTest.describeAccount("other session").isEmpty());
+    }
 }
@@ -0,0 +1,150 @@
+package core.session;
+
+import com.epam.training.ticketservice.core.dto.UserDto;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.session.SessionRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SessionRegistryTests {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SessionRegistry underTest = new SessionRegistry(2, Duration.ofMinutes(30), now::get);
+    private final UserDto admin = new UserDto("admin", User.Role.ADMIN);
+    private final UserDto user = new UserDto("sanyi", User.Role.USER);
+
+    @Test
+    public void testFindShouldReturnTheBoundUserWhenSessionIsActive() {
+        //Given
+        underTest.bind("a", admin);
+        underTest.bind("b", user);
+
+        //When
+        Optional<UserDto> found = underTest.find("b");
+
+        //Then
+        assertEquals(Optional.of(user), found);
+    }
+
+    @Test
+    public void testFindShouldEvictSessionWhenItWasIdleForTooLong() {
+        //Given
+        underTest.bind("a", admin);
+        now.addAndGet(Duration.ofMinutes(30).toNanos());
+
+        //When
+        Optional<UserDto> found = underTest.find("a");
+
+        //Then
+        assertTrue(found.isEmpty());
+        assertEquals(0, underTest.size());
+    }
+
+    @Test
+    public void testFindShouldKeepSessionAliveWhenItIsUsed() {
+        //Given
+        underTest.bind("a", admin);
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        underTest.find("a");
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        //When
+        Optional<UserDto> found = underTest.find("a");
+
+        //Then
+        assertEquals(Optional.of(admin), found);
+    }
+
+    @Test
+    public void testBindShouldEvictLeastRecentlyUsedSessionWhenRegistryIsFull() {
+        //Given
+        underTest.bind("a", admin);
+        now.incrementAndGet();
+        underTest.bind("b", user);
+        now.incrementAndGet();
+        underTest.find("a");
+
+        //When
+        underTest.bind("c", user);
+
+        //Then
+        assertEquals(2, underTest.size());
+        assertTrue(underTest.find("b").isEmpty());
+        assertEquals(Optional.of(admin), underTest.find("a"));
+    }
+
+    @Test
+    public void testBindShouldEvictIdleSessionsBeforeRecentlyUsedOnesWhenRegistryIsFull() {
+        //Given
+        underTest.bind("a", admin);
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        underTest.bind("b", user);
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        underTest.find("b");
+
+        //When
+        underTest.bind("c", user);
+
+        //Then
+        assertEquals(2, underTest.size());
+        assertEquals(Optional.of(user), underTest.find("b"));
+        assertEquals(Optional.of(user), underTest.find("c"));
+    }
+
+    @Test
+    public void testFindShouldKeepPinnedSessionWhenItIsIdleAndTheRegistryIsFull() {
+        //Given
+        String shell = underTest.newPinnedSessionId();
+        underTest.bind(shell, admin);
+        underTest.bind("a", user);
+        underTest.bind("b", user);
+        underTest.bind("c", user);
+        now.addAndGet(Duration.ofHours(2).toNanos());
+
+        //When
+        Optional<UserDto> found = underTest.find(shell);
+
+        //Then
+        assertEquals(Optional.of(admin), found);
+        assertTrue(underTest.find("c").isEmpty());
+    }
+
+    @Test
+    public void testBindShouldNeverExceedTheLimitWhenSessionsSignInConcurrently() throws InterruptedException {
+        //Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //When
+        for (int i = 0; i < 1000; i++) {
+            String sessionId = "session " + i;
+            executor.submit(() -> underTest.bind(sessionId, user));
+        }
+        executor.shutdown();
+
+        //Then
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(2, underTest.size());
+    }
+
+    @Test
+    public void testNewSessionIdShouldNotRepeat() {
+        //Given
+
+        //When
+        String first = underTest.newSessionId();
+        String second = underTest.newSessionId();
+
+        //Then
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,149 @@
+package core.snapshot;
+
+import com.epam.training.ticketservice.core.catalog.CatalogLookup;
+import com.epam.training.ticketservice.core.dto.ScreeningSlotDto;
+import com.epam.training.ticketservice.core.dto.SnapshotDto;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepo;
+import com.epam.training.ticketservice.core.repository.RoomRepo;
+import com.epam.training.ticketservice.core.repository.ScreeningRepo;
+import com.epam.training.ticketservice.core.schedule.RoomTimeline;
+import com.epam.training.ticketservice.core.schedule.ScreeningSchedule;
+import com.epam.training.ticketservice.core.snapshot.SnapshotFile;
+import com.epam.training.ticketservice.core.snapshot.SnapshotManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class SnapshotManagerTests {
+
+    private final MovieRepo movieRepo = mock(MovieRepo.class);
+    private final RoomRepo roomRepo = mock(RoomRepo.class);
+    private final ScreeningRepo screeningRepo = mock(ScreeningRepo.class);
+    private final CatalogLookup catalogLookup = new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100,
+            Duration.ofMinutes(10));
+    private final ScreeningSchedule screeningSchedule = new ScreeningSchedule(screeningRepo);
+    private final Movie movie = new Movie("Sátántangó", "drama", 450);
+    private final Room room = new Room("Pedersoli", 20, 10);
+    private final LocalDateTime screeningTime = LocalDateTime.of(2021, 3, 15, 11, 0);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        movie.setId(1);
+        room.setId(2);
+        when(movieRepo.findAll()).thenReturn(List.of(movie));
+        when(roomRepo.findAll()).thenReturn(new ArrayList<>(List.of(room)));
+        when(screeningRepo.streamScreeningSlots()).thenAnswer(invocation -> List.of(
+                new ScreeningSlotDto(room.getId(), 3, screeningTime, movie.getLength())).stream());
+    }
+
+    @Test
+    public void testSnapshotShouldRestoreTheCatalogAndTheScheduleWithoutQueryingTheDatabase() throws IOException {
+        //Given
+        Path path = directory.resolve("catalog.snapshot");
+        newManager(path).snapshot();
+        ScreeningSchedule restartedSchedule = new ScreeningSchedule(screeningRepo);
+        CatalogLookup restartedLookup = new CatalogLookup(movieRepo, roomRepo, screeningRepo, 100,
+                Duration.ofMinutes(10));
+
+        //When
+        new SnapshotManager(movieRepo, roomRepo, screeningRepo, restartedLookup, restartedSchedule,
+                mock(PlatformTransactionManager.class), true, path, Duration.ofMinutes(5))
+                .run(new DefaultApplicationArguments());
+
+        //Then
+        assertEquals(Optional.of(movie), restartedLookup.lookupMovie(movie.getName()));
+        assertEquals(Optional.of(room), restartedLookup.lookupRoom(room.getName()));
+        assertEquals(RoomTimeline.Conflict.EXTENDING,
+                restartedSchedule.timelineOf(room).findConflict(RoomTimeline.toSeconds(screeningTime.plusHours(1)),
+                        RoomTimeline.toSeconds(screeningTime.plusHours(2))));
+        verify(movieRepo, never()).findByName(anyString());
+        verify(roomRepo, never()).findByName(anyString());
+        verify(screeningRepo, never()).findScreeningsByRoom(any(Room.class));
+    }
+
+    @Test
+    public void testSnapshotShouldBeDeletedWhenTheScheduleChangesAfterItWasWritten() throws IOException {
+        //Given
+        Path path = directory.resolve("catalog.snapshot");
+        SnapshotManager underTest = newManager(path);
+        underTest.run(new DefaultApplicationArguments());
+
+        //When
+        SnapshotDto snapshot = underTest.snapshot();
+        boolean writtenBeforeChange = Files.exists(path);
+        screeningSchedule.add(new Screening(movie, room, screeningTime.plusDays(1)));
+
+        //Then
+        assertEquals(new SnapshotDto(1, 1, 1, snapshot.millis()), snapshot);
+        assertTrue(writtenBeforeChange);
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void testBeginChangeShouldDeleteTheSnapshotBeforeTheWriteAndDiscardSnapshotsWrittenDuringIt()
+            throws IOException {
+        //Given
+        Path path = directory.resolve("catalog.snapshot");
+        SnapshotManager underTest = newManager(path);
+        underTest.snapshot();
+        boolean writtenBeforeChange = Files.exists(path);
+
+        //When
+        underTest.beginChange();
+        boolean keptDuringChange = Files.exists(path);
+        underTest.snapshot();
+        boolean keptWhileChangeInFlight = Files.exists(path);
+        underTest.endChange();
+        underTest.snapshot();
+
+        //Then
+        assertTrue(writtenBeforeChange);
+        assertFalse(keptDuringChange);
+        assertFalse(keptWhileChangeInFlight);
+        assertTrue(Files.exists(path));
+    }
+
+    @Test
+    public void testReadShouldRejectSnapshotWhenTheChecksumDoesNotMatch() throws IOException {
+        //Given
+        Path path = directory.resolve("catalog.snapshot");
+        newManager(path).snapshot();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        //When
+        IOException exception = assertThrows(IOException.class, () -> SnapshotFile.read(path));
+
+        //Then
+        assertEquals("The snapshot checksum does not match", exception.getMessage());
+    }
+
+    private SnapshotManager newManager(Path path) {
+        return new SnapshotManager(movieRepo, roomRepo, screeningRepo, catalogLookup, screeningSchedule,
+                mock(PlatformTransactionManager.class), true, path, Duration.ofMinutes(5));
+    }
+}
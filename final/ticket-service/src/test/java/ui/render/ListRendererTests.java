@@ -0,0 +1,130 @@
+package ui.render;
+
+import com.epam.training.ticketservice.core.dto.MovieDto;
+import com.epam.training.ticketservice.core.dto.RoomDto;
+import com.epam.training.ticketservice.core.dto.ScreeningDto;
+import com.epam.training.ticketservice.ui.render.ListRenderer;
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ListRendererTests {
+
+    private final Terminal terminal = mock(Terminal.class);
+    private final CountingWriter output = new CountingWriter();
+    private final ListRenderer underTest = new ListRenderer(terminal);
+
+    {
+        when(terminal.writer()).thenReturn(new PrintWriter(output));
+    }
+
+    @Test
+    public void testRenderShouldWriteTheSameMovieListAsJoiningTheRowsWhenThereAreMovies() {
+        //Given
+        List<MovieDto> movies = List.of(new MovieDto("Sátántangó", "drama", 450),
+                new MovieDto("Spirited Away", "animation", 125));
+
+        //When
+        int rendered = underTest.render(movies::forEach, MovieDto::appendTo);
+
+        //Then
+        assertEquals(2, rendered);
+        assertEquals(joined(movies.stream().map(movie -> movie.getName() + " (" + movie.getGenre() + ", "
+                + movie.getLength() + " minutes)").toList()), output.toString());
+    }
+
+    @Test
+    public void testRenderShouldWriteTheSameRoomListAsJoiningTheRowsWhenThereAreRooms() {
+        //Given
+        List<RoomDto> rooms = List.of(new RoomDto("Pedersoli", 20, 10), new RoomDto("Girotti", 10, 10));
+
+        //When
+        int rendered = underTest.render(rooms::forEach, RoomDto::appendTo);
+
+        //Then
+        assertEquals(2, rendered);
+        assertEquals(joined(rooms.stream().map(room -> "Room " + room.getName() + " with "
+                + (room.getRows() * room.getCols()) + " seats, " + room.getRows() + " rows and " + room.getCols()
+                + " columns").toList()), output.toString());
+    }
+
+    @Test
+    public void testRenderShouldWriteTheSameScreeningListAsJoiningTheRowsAroundThePageBoundary() {
+        for (int count : new int[] {1, 255, 256, 257, 512, 513}) {
+            //Given
+            output.reset();
+            List<ScreeningDto> screenings = screenings(count);
+
+            //When
+            int rendered = underTest.render(screenings::forEach, ScreeningDto::appendTo);
+
+            //Then
+            assertEquals(count, rendered);
+            assertEquals(joined(screenings.stream().map(ListRendererTests::joinedRow).toList()), output.toString());
+            assertEquals((count + 255) / 256, output.pageWrites);
+        }
+    }
+
+    @Test
+    public void testRenderShouldWriteNothingWhenTheListIsEmpty() {
+        //Given
+        List<ScreeningDto> screenings = List.of();
+
+        //When
+        int rendered = underTest.render(screenings::forEach, ScreeningDto::appendTo);
+
+        //Then
+        assertEquals(0, rendered);
+        assertEquals("", output.toString());
+    }
+
+    private static List<ScreeningDto> screenings(int count) {
+        LocalDateTime first = LocalDateTime.of(2021, 3, 15, 11, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ScreeningDto("Movie " + i, "drama", 90 + i % 60, "Room " + i % 7, 10, 10,
+                        first.plusMinutes(30L * i)))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static String joinedRow(ScreeningDto screening) {
+        MovieDto movie = screening.getMovieDto();
+        return movie.getName() + " (" + movie.getGenre() + ", " + movie.getLength() + " minutes)"
+                + ", screened in room " + screening.getRoomDto().getName() + ", at "
+                + screening.getScreeningTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+
+    // what the shell printed when the command returned the rows joined into one string
+    private static String joined(List<String> rows) {
+        return String.join("\n", rows) + System.lineSeparator();
+    }
+
+    private static final class CountingWriter extends StringWriter {
+
+        private int pageWrites;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            if (length > 1) {
+                pageWrites++;
+            }
+            super.write(chars, offset, length);
+        }
+
+        private void reset() {
+            getBuffer().setLength(0);
+            pageWrites = 0;
+        }
+    }
+}